@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+## Usage: ./startup-benchmark.sh [runs]
+##
+## Options:
+##    - runs: Number of container starts per image. Default to `5`.
+##
+## Builds the plain and the class data sharing images from build/libs/sscs-bulk-scan.jar, starts each one `runs`
+## times and records the time to ready reported by the application, the wall clock time until the readiness probe
+## is UP and the container memory once ready. Results are appended to build/reports/startup/startup-benchmark.csv,
+## labelled with the current commit, so the gain can be tracked over time.
+##
+## Build the jar first with ./gradlew assemble, or ./gradlew assemble -Paot and SPRING_AOT=true to include Spring AOT.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+SPRING_AOT="${SPRING_AOT:-false}"
+PORT="${PORT:-8090}"
+LABEL="$(git rev-parse --short HEAD 2>/dev/null || echo unknown)"
+
+cd "$(dirname "$0")/.."
+mkdir -p build/reports/startup
+RESULTS=build/reports/startup/startup-benchmark.csv
+[ -f "${RESULTS}" ] || echo "label,image,spring_aot,run,ready_ms,wall_ms,memory" > "${RESULTS}"
+
+docker build --quiet --target plain -t sscs-bulk-scan:startup-plain .
+docker build --quiet --build-arg SPRING_AOT="${SPRING_AOT}" -t sscs-bulk-scan:startup-cds .
+
+for image in plain cds; do
+  for run in $(seq 1 "${RUNS}"); do
+    start=$(date +%s%3N)
+    container=$(docker run -d -p "${PORT}:8090" "sscs-bulk-scan:startup-${image}")
+
+    until curl --silent --fail "http://localhost:${PORT}/health/readiness" > /dev/null; do
+      if [ "$(docker inspect -f '{{.State.Running}}' "${container}")" != "true" ]; then
+        docker logs "${container}" | tail -50
+        docker rm -f "${container}" > /dev/null
+        exit 1
+      fi
+      sleep 0.1
+    done
+    wall=$(( $(date +%s%3N) - start ))
+
+    ready=$(docker logs "${container}" 2>&1 | sed -n 's/.*Application ready in \([0-9]*\) ms.*/\1/p' | head -1)
+    memory=$(docker stats --no-stream --format '{{.MemUsage}}' "${container}" | cut -d/ -f1 | tr -d ' ')
+    docker rm -f "${container}" > /dev/null
+
+    echo "${LABEL},${image},${SPRING_AOT},${run},${ready},${wall},${memory}" | tee -a "${RESULTS}"
+  done
+done
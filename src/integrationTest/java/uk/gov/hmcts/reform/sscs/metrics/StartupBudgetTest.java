@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator;
+import uk.gov.hmcts.reform.sscs.idam.IdamService;
+import uk.gov.hmcts.reform.sscs.service.RefDataService;
+import uk.gov.hmcts.reform.sscs.service.VenueService;
+
+/**
+ * Boots the application through its main method, so startup is recorded the same way as in production, and fails
+ * when it takes longer than {@code startup.budget}.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, useMainMethod = SpringBootTest.UseMainMethod.ALWAYS)
+@TestPropertySource(locations = "classpath:application_it.yaml")
+public class StartupBudgetTest {
+
+    @MockBean
+    private AuthTokenValidator authTokenValidator;
+
+    @MockBean
+    private IdamService idamService;
+
+    @MockBean
+    private RefDataService refDataService;
+
+    @MockBean
+    private VenueService venueService;
+
+    @Autowired
+    private StartupReport startupReport;
+
+    @Value("${startup.budget}")
+    private Duration budget;
+
+    @Test
+    public void applicationStartsWithinBudget() {
+        Duration timeTaken = startupReport.getTimeTaken();
+
+        assertNotNull(timeTaken);
+        assertTrue(String.format("Startup took %d ms, over the budget of %d ms. Slowest steps:%s",
+                timeTaken.toMillis(), budget.toMillis(), startupReport.describe()),
+            timeTaken.compareTo(budget) <= 0);
+    }
+
+    @Test
+    public void startupStepsAreRecorded() {
+        assertFalse(startupReport.getSlowestSteps().isEmpty());
+    }
+}
@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.sscs.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ExceptionRecord;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.OcrDataField;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.domain.transformation.CaseCreationDetails;
+import uk.gov.hmcts.reform.sscs.domain.transformation.SuccessfulTransformationResponse;
+
+/**
+ * Time and allocation of reading and writing the request and response bodies with Spring's default mapper and with
+ * the Blackbird module registered by {@code JsonMappingConfiguration}.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the gc profiler reports {@code gc.alloc.rate.norm} (bytes per call)
+ * alongside the average time, and results are written to {@code build/reports/jmh/results.json}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonMappingBenchmark {
+
+    private static final String CALLBACK = "/benchmark/ccd-callback.json";
+    private static final String[] PEOPLE = {"person1", "person2", "representative", "appointee"};
+    private static final String[] FIELDS = {"title", "first_name", "last_name", "dob", "nino", "address_line1",
+        "address_line2", "address_line3", "address_line4", "postcode", "phone", "mobile", "email", "want_sms_notifications"};
+
+    public enum Profile {
+        DEFAULT, BLACKBIRD
+    }
+
+    @Param
+    private Profile profile;
+
+    private ObjectReader exceptionRecordReader;
+    private ObjectReader callbackReader;
+    private ObjectWriter transformationResponseWriter;
+    private ObjectWriter callbackResponseWriter;
+
+    private byte[] exceptionRecord;
+    private byte[] callback;
+    private SuccessfulTransformationResponse transformationResponse;
+    private PreSubmitCallbackResponse<SscsCaseData> callbackResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (profile == Profile.BLACKBIRD) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        ObjectMapper mapper = builder.build();
+
+        exceptionRecordReader = mapper.readerFor(ExceptionRecord.class);
+        callbackReader = mapper.readerFor(new TypeReference<Callback<SscsCaseData>>() {});
+        transformationResponseWriter = mapper.writerFor(SuccessfulTransformationResponse.class);
+        callbackResponseWriter = mapper.writerFor(mapper.getTypeFactory()
+            .constructParametricType(PreSubmitCallbackResponse.class, SscsCaseData.class));
+
+        ExceptionRecord record = exceptionRecord();
+        exceptionRecord = mapper.writeValueAsBytes(record);
+        try (InputStream in = JsonMappingBenchmark.class.getResourceAsStream(CALLBACK)) {
+            callback = in.readAllBytes();
+        }
+        transformationResponse = new SuccessfulTransformationResponse(
+            new CaseCreationDetails("Benefit", "validAppealCreated", Map.of("formType", record.getFormType())),
+            List.of("person2_nino is blank"), Map.of());
+        Callback<SscsCaseData> parsed = callbackReader.readValue(callback);
+        callbackResponse = new PreSubmitCallbackResponse<>(parsed.getCaseDetails().getCaseData());
+        callbackResponse.addWarnings(List.of("Appellant postcode is not a valid postcode"));
+    }
+
+    @Benchmark
+    public ExceptionRecord readExceptionRecord() throws IOException {
+        return exceptionRecordReader.readValue(exceptionRecord);
+    }
+
+    @Benchmark
+    public Callback<SscsCaseData> readCallback() throws IOException {
+        return callbackReader.readValue(callback);
+    }
+
+    @Benchmark
+    public byte[] writeTransformationResponse() throws IOException {
+        return transformationResponseWriter.writeValueAsBytes(transformationResponse);
+    }
+
+    @Benchmark
+    public byte[] writeCallbackResponse() throws IOException {
+        return callbackResponseWriter.writeValueAsBytes(callbackResponse);
+    }
+
+    private static ExceptionRecord exceptionRecord() {
+        List<OcrDataField> fields = new ArrayList<>();
+        for (String person : PEOPLE) {
+            for (String field : FIELDS) {
+                fields.add(new OcrDataField(person + "_" + field, person + " " + field));
+            }
+        }
+        fields.add(new OcrDataField("benefit_type_description", "PIP"));
+        fields.add(new OcrDataField("mrn_date", "23/04/2020"));
+        fields.add(new OcrDataField("office", "1"));
+        fields.add(new OcrDataField("is_hearing_type_oral", "true"));
+        return ExceptionRecord.builder()
+            .id("1234567890123456")
+            .caseTypeId("SSCS_ExceptionRecord")
+            .poBox("SSCSPO")
+            .jurisdiction("SSCS")
+            .formType("SSCS1PEU")
+            .deliveryDate(LocalDateTime.of(2020, 4, 23, 10, 0))
+            .openingDate(LocalDateTime.of(2020, 4, 23, 10, 30))
+            .scannedDocuments(List.of())
+            .ocrDataFields(fields)
+            .envelopeId("envelope")
+            .isAutomatedProcess(false)
+            .exceptionRecordId("1234567890123456")
+            .build();
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Benefit;
+
+/**
+ * Latency and allocation of {@link FuzzyMatcherService#matchBenefitType} per stage of the match cascade.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the gc profiler reports {@code gc.alloc.rate.norm} (bytes per call)
+ * alongside the average time, and results are written to {@code build/reports/jmh/results.json}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FuzzyMatcherServiceBenchmark {
+
+    private static final String CORPUS = "/benchmark/benefit-ocr-corpus.psv";
+    private static final String CASE_ID = "1234567890123456";
+
+    public enum Category {
+        EXACT, CONTAINS, FUZZY, UNMATCHED
+    }
+
+    @Param
+    private Category category;
+
+    private FuzzyMatcherService fuzzyMatcherService;
+    private String[] inputs;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        fuzzyMatcherService = new FuzzyMatcherService();
+
+        List<String> values = new ArrayList<>();
+        for (String[] entry : readCorpus()) {
+            if (Category.valueOf(entry[0]) == category) {
+                verify(entry[1], entry[2]);
+                values.add(entry[1]);
+            }
+        }
+        if (values.isEmpty()) {
+            throw new IllegalStateException("No corpus entries for category " + category);
+        }
+        inputs = values.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public String matchBenefitType() {
+        String input = inputs[next];
+        next = (next + 1) % inputs.length;
+        return fuzzyMatcherService.matchBenefitType(CASE_ID, input);
+    }
+
+    private void verify(String input, String expectedBenefit) {
+        String expected = StringUtils.isEmpty(expectedBenefit) ? input : Benefit.valueOf(expectedBenefit).getShortName();
+        String actual = fuzzyMatcherService.matchBenefitType(CASE_ID, input);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Corpus entry '" + input + "' matched '" + actual + "' but expected '" + expected + "'");
+        }
+    }
+
+    private static List<String[]> readCorpus() throws IOException {
+        List<String[]> entries = new ArrayList<>();
+        try (InputStream in = FuzzyMatcherServiceBenchmark.class.getResourceAsStream(CORPUS);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    entries.add(line.split("\\|", -1));
+                }
+            }
+        }
+        return entries;
+    }
+}
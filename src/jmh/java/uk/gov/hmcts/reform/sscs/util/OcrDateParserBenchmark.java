@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.sscs.ccd.domain.DateRange;
+
+/**
+ * Time and allocation of turning form dates and exclude date lists into CCD dates with {@link OcrDateParser} and
+ * with the formatters and regular expressions it replaced, which are copied here as they were.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the gc profiler reports {@code gc.alloc.rate.norm} (bytes per call)
+ * alongside the average time, and results are written to {@code build/reports/jmh/results.json}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OcrDateParserBenchmark {
+
+    private static final String ERROR = "hearing_options_exclude_dates contains an invalid date range";
+
+    public enum Implementation {
+        FORMATTER, SCANNER
+    }
+
+    @Param
+    private Implementation implementation;
+
+    @Param({"23/04/2020", "1/4/2020", "23042020", "31/02/2020"})
+    private String ocrDate;
+
+    private final String excludeDates = "01/01/2020, 07/01/2020, 12/01/2020 - 15/01/2020, 3/2/2020";
+    private final String ccdDate = "2020-04-23";
+
+    @Benchmark
+    public String toCcdDate() {
+        Set<String> errors = new HashSet<>();
+        return implementation == Implementation.SCANNER
+            ? SscsOcrDataUtil.getDateForCcd(ocrDate, errors, ERROR)
+            : getDateForCcdByFormatter(ocrDate, errors, ERROR);
+    }
+
+    @Benchmark
+    public List<DateRange> parseDateRanges() {
+        Set<String> errors = new HashSet<>();
+        if (implementation == Implementation.SCANNER) {
+            List<DateRange> ranges = new ArrayList<>();
+            OcrDateParser.parseDateRanges(excludeDates, ranges, errors, ERROR);
+            return ranges;
+        }
+        return parseDateRangesByRegex(excludeDates, errors);
+    }
+
+    @Benchmark
+    public LocalDate parseCcdDate() {
+        return implementation == Implementation.SCANNER
+            ? OcrDateParser.parseCcdDate(ccdDate)
+            : LocalDate.parse(ccdDate, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    }
+
+    private static String getDateForCcdByFormatter(String ocrField, Set<String> errors, String errorMessage) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("[d/M/uuuu][ddMMuuuu]")
+            .withResolverStyle(ResolverStyle.STRICT);
+        try {
+            return LocalDate.parse(ocrField, formatter).format(DateTimeFormatter.ofPattern("uuuu-MM-dd"));
+        } catch (DateTimeParseException ex) {
+            errors.add(errorMessage);
+        }
+        return null;
+    }
+
+    private static List<DateRange> parseDateRangesByRegex(String excludedDatesList, Set<String> errors) {
+        List<DateRange> ranges = new ArrayList<>();
+        for (String item : excludedDatesList.split(",\\s*")) {
+            List<String> range = Arrays.asList(item.split("\\s*-\\s*"));
+            if (range.size() > 2) {
+                errors.add(ERROR);
+                return ranges;
+            }
+            String startDate = getDateForCcdByFormatter(range.get(0), errors, ERROR);
+            String endDate = range.size() == 2 ? getDateForCcdByFormatter(range.get(1), errors, ERROR) : null;
+            ranges.add(DateRange.builder().start(startDate).end(endDate).build());
+        }
+        return ranges;
+    }
+}
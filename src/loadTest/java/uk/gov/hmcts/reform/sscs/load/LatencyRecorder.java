@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.sscs.load;
+
+import java.util.Arrays;
+
+/**
+ * Collects response times for one scenario run. Latency is measured from the moment a request was scheduled rather
+ * than when it was sent, so a stalled service is not hidden by the driver falling behind (coordinated omission).
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private long firstStart = Long.MAX_VALUE;
+    private long lastEnd = Long.MIN_VALUE;
+
+    synchronized void record(long scheduledAtNanos, long completedAtNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = completedAtNanos - scheduledAtNanos;
+        if (!success) {
+            errors++;
+        }
+        firstStart = Math.min(firstStart, scheduledAtNanos);
+        lastEnd = Math.max(lastEnd, completedAtNanos);
+    }
+
+    synchronized Summary summarise() {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double elapsedSeconds = count == 0 ? 0 : (lastEnd - firstStart) / 1e9;
+        return new Summary(
+            count,
+            errors,
+            elapsedSeconds == 0 ? 0 : count / elapsedSeconds,
+            percentileMillis(sorted, 50),
+            percentileMillis(sorted, 95),
+            percentileMillis(sorted, 99),
+            count == 0 ? 0 : sorted[count - 1] / 1e6
+        );
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    record Summary(int requests, int errors, double throughput, double p50, double p95, double p99, double max) {
+    }
+}
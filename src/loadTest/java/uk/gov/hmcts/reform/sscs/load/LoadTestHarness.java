@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.sscs.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.sscs.BulkScanApplication;
+
+/**
+ * Boots the application against {@link StubDependencies} and drives each {@link Scenario} open-loop at a fixed
+ * request rate, writing throughput and latency percentiles to {@code build/reports/load/<label>.json}.
+ *
+ * <p>Run with {@code ./gradlew loadTest}. Tunables (system properties): {@code loadtest.rate} requests per second per
+ * scenario, {@code loadtest.duration} and {@code loadtest.warmup} in seconds, {@code loadtest.scenarios} as a comma
+ * separated subset, and {@code loadtest.latency.<ccd|idam|s2s|postcode|location-ref>} in milliseconds. The label
+ * defaults to the short commit hash so reports from different commits can be compared side by side.
+ */
+@Slf4j
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rate = Integer.getInteger("loadtest.rate", 20);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 15);
+        String label = System.getProperty("loadtest.label", "local");
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/load"));
+        List<Scenario> scenarios = Arrays.stream(System.getProperty("loadtest.scenarios",
+                "TRANSFORM,VALIDATE_OCR,VALIDATE_RECORD").split(","))
+            .map(String::trim)
+            .map(Scenario::valueOf)
+            .toList();
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode report = mapper.createObjectNode();
+        report.put("label", label);
+        report.put("timestamp", Instant.now().toString());
+        report.put("targetRate", rate);
+        report.put("durationSeconds", durationSeconds);
+        report.set("latencyMs", mapper.valueToTree(new StubDependencies().latencies()));
+        ArrayNode results = report.putArray("scenarios");
+
+        try (StubDependencies stubs = new StubDependencies()) {
+            stubs.start();
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BulkScanApplication.class)
+                .properties(stubs.applicationProperties())
+                .properties("server.port=0")
+                .run(args)) {
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                String baseUrl = "http://localhost:" + port;
+                HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+                for (Scenario scenario : scenarios) {
+                    log.info("Warming up {} for {}s at {} req/s", scenario, warmupSeconds, rate);
+                    drive(client, baseUrl, scenario, rate, warmupSeconds);
+
+                    log.info("Measuring {} for {}s at {} req/s", scenario, durationSeconds, rate);
+                    LatencyRecorder.Summary summary = drive(client, baseUrl, scenario, rate, durationSeconds);
+                    log.info("{}: {}", scenario, summary);
+
+                    ObjectNode result = mapper.valueToTree(summary);
+                    result.put("scenario", scenario.name());
+                    results.add(result);
+                }
+            }
+        }
+
+        Files.createDirectories(reportDir);
+        Path reportFile = reportDir.resolve(label + ".json");
+        mapper.writeValue(reportFile.toFile(), report);
+        log.info("Load test report written to {}", reportFile.toAbsolutePath());
+        System.exit(0);
+    }
+
+    private static LatencyRecorder.Summary drive(HttpClient client, String baseUrl, Scenario scenario,
+                                                 int rate, int seconds) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        AtomicLong sequence = new AtomicLong();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) rate * seconds;
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long origin = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long scheduledAt = origin + i * intervalNanos;
+            scheduler.schedule(() -> {
+                CompletableFuture<?> call = client
+                    .sendAsync(scenario.request(baseUrl, sequence.incrementAndGet()),
+                        HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> recorder.record(
+                        scheduledAt, System.nanoTime(), error == null && response.statusCode() < 300));
+                synchronized (inFlight) {
+                    inFlight.add(call);
+                }
+            }, scheduledAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+        scheduler.shutdown();
+        scheduler.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+
+        synchronized (inFlight) {
+            CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(error -> null)
+                .join();
+        }
+        return recorder.summarise();
+    }
+}
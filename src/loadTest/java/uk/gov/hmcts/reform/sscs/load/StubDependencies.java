@@ -0,0 +1,139 @@
+package uk.gov.hmcts.reform.sscs.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * WireMock stand-ins for every outbound dependency of the service, each answering after a configurable fixed delay
+ * ({@code loadtest.latency.<dependency>} in milliseconds).
+ */
+class StubDependencies implements AutoCloseable {
+
+    enum Dependency {
+        CCD(80), IDAM(30), S2S(10), POSTCODE(50), LOCATION_REF(40);
+
+        private final int defaultLatencyMs;
+
+        Dependency(int defaultLatencyMs) {
+            this.defaultLatencyMs = defaultLatencyMs;
+        }
+
+        int latencyMs() {
+            return Integer.getInteger("loadtest.latency." + name().toLowerCase().replace('_', '-'), defaultLatencyMs);
+        }
+    }
+
+    static final String CALLING_SERVICE = "bulk_scan_orchestrator";
+
+    private final Map<Dependency, WireMockServer> servers = new EnumMap<>(Dependency.class);
+
+    void start() {
+        for (Dependency dependency : Dependency.values()) {
+            WireMockServer server = new WireMockServer(options().dynamicPort().containerThreads(100));
+            server.start();
+            servers.put(dependency, server);
+        }
+        stubCcd(servers.get(Dependency.CCD));
+        stubIdam(servers.get(Dependency.IDAM));
+        stubS2s(servers.get(Dependency.S2S));
+        stubPostcode(servers.get(Dependency.POSTCODE));
+        stubLocationRef(servers.get(Dependency.LOCATION_REF));
+    }
+
+    Map<String, Object> applicationProperties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("core_case_data.api.url", url(Dependency.CCD));
+        properties.put("idam.url", url(Dependency.IDAM));
+        properties.put("idam.api.url", url(Dependency.IDAM));
+        properties.put("idam.s2s-auth.url", url(Dependency.S2S));
+        properties.put("postcode-validator.url", url(Dependency.POSTCODE) + "/postcodes/{postcode}/validate");
+        properties.put("postcode-validator.enabled", true);
+        properties.put("location_ref.api.url", url(Dependency.LOCATION_REF));
+        return properties;
+    }
+
+    Map<String, Integer> latencies() {
+        Map<String, Integer> latencies = new LinkedHashMap<>();
+        for (Dependency dependency : Dependency.values()) {
+            latencies.put(dependency.name(), dependency.latencyMs());
+        }
+        return latencies;
+    }
+
+    @Override
+    public void close() {
+        servers.values().forEach(WireMockServer::stop);
+    }
+
+    private String url(Dependency dependency) {
+        return "http://localhost:" + servers.get(dependency).port();
+    }
+
+    private static ResponseDefinitionBuilder json(Dependency dependency, String body) {
+        return aResponse()
+            .withStatus(200)
+            .withHeader("Content-Type", "application/json")
+            .withBody(body)
+            .withFixedDelay(dependency.latencyMs());
+    }
+
+    private static void stubCcd(WireMockServer server) {
+        server.stubFor(post(urlPathEqualTo("/searchCases"))
+            .willReturn(json(Dependency.CCD, "{\"total\":0,\"cases\":[]}")));
+    }
+
+    private static void stubIdam(WireMockServer server) {
+        String token = "{\"access_token\":\"load-test-user-token\",\"token_type\":\"Bearer\",\"expires_in\":28800}";
+        String user = "{\"id\":\"1234\",\"uid\":\"1234\",\"sub\":\"system.update@hmcts.net\","
+            + "\"email\":\"system.update@hmcts.net\",\"roles\":[\"caseworker-sscs-systemupdate\"]}";
+        server.stubFor(post(urlPathMatching("/o/token|/oauth2/token"))
+            .willReturn(json(Dependency.IDAM, token)));
+        server.stubFor(post(urlPathEqualTo("/oauth2/authorize"))
+            .willReturn(json(Dependency.IDAM, "{\"code\":\"load-test-code\"}")));
+        server.stubFor(get(urlPathMatching("/o/userinfo|/details"))
+            .willReturn(json(Dependency.IDAM, user)));
+    }
+
+    private static void stubS2s(WireMockServer server) {
+        server.stubFor(post(urlPathEqualTo("/lease"))
+            .willReturn(aResponse().withStatus(200).withBody(unsignedJwt())
+                .withFixedDelay(Dependency.S2S.latencyMs())));
+        server.stubFor(get(urlPathEqualTo("/details"))
+            .willReturn(aResponse().withStatus(200).withBody(CALLING_SERVICE)
+                .withFixedDelay(Dependency.S2S.latencyMs())));
+    }
+
+    private static void stubPostcode(WireMockServer server) {
+        server.stubFor(any(anyUrl())
+            .willReturn(json(Dependency.POSTCODE, "{\"status\":200,\"result\":true}")));
+    }
+
+    private static void stubLocationRef(WireMockServer server) {
+        server.stubFor(any(anyUrl())
+            .willReturn(json(Dependency.LOCATION_REF,
+                "[{\"epimms_id\":\"1\",\"site_name\":\"Load Test Venue\",\"region_id\":\"1\","
+                    + "\"court_status\":\"Open\",\"court_type_id\":\"31\"}]")));
+    }
+
+    private static String unsignedJwt() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString("{\"sub\":\"sscs_bulkscan\",\"exp\":4102444800}"
+            .getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".c2lnbmF0dXJl";
+    }
+}
@@ -7,10 +7,12 @@ import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_US
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -18,8 +20,10 @@ import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.sscs.bulkscancore.handlers.CcdCallbackHandler;
 import uk.gov.hmcts.reform.sscs.ccd.config.CcdRequestDetails;
 import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
+import uk.gov.hmcts.reform.sscs.json.SscsCaseCallbackReader;
 
 @SpringBootApplication(exclude = {DataSourceAutoConfiguration.class})
 @EnableRetry
@@ -36,6 +40,11 @@ import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer
 @SuppressWarnings("HideUtilityClassConstructor") // Spring needs a constructor, its not a utility class
 public class BulkScanApplication {
 
+    private static final int STARTUP_STEPS_CAPACITY = 10_000;
+
+    // One mapper for every callback reader, so they share its serialiser and deserialiser caches
+    private final ObjectMapper callbackMapper = mapper();
+
     @Bean
     public RestTemplate restTemplate() {
         return new RestTemplate();
@@ -52,10 +61,15 @@ public class BulkScanApplication {
 
     @Bean
     public SscsCaseCallbackDeserializer sscsCaseCallbackDeserializer() {
-        return new SscsCaseCallbackDeserializer(mapper());
+        return new SscsCaseCallbackDeserializer(callbackMapper);
+    }
+
+    @Bean
+    public SscsCaseCallbackReader sscsCaseCallbackReader() {
+        return new SscsCaseCallbackReader(callbackMapper, CcdCallbackHandler.validateRecordCaseDataProperties());
     }
 
-    private ObjectMapper mapper() {
+    private static ObjectMapper mapper() {
         Jackson2ObjectMapperBuilder objectMapperBuilder =
             new Jackson2ObjectMapperBuilder()
                 .featuresToEnable(READ_ENUMS_USING_TO_STRING)
@@ -66,10 +80,14 @@ public class BulkScanApplication {
         ObjectMapper mapper = objectMapperBuilder.createXmlMapper(false).build();
         mapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
         mapper.findAndRegisterModules();
+        mapper.registerModule(new BlackbirdModule());
         return mapper;
     }
 
     public static void main(final String[] args) {
-        SpringApplication.run(BulkScanApplication.class, args);
+        SpringApplication application = new SpringApplication(BulkScanApplication.class);
+        // Records each startup step for the startup actuator endpoint and the StartupReport
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
 }
@@ -9,14 +9,22 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.State.READY_TO_LIST;
 import static uk.gov.hmcts.reform.sscs.service.CaseCodeService.generateBenefitCode;
 import static uk.gov.hmcts.reform.sscs.service.CaseCodeService.generateCaseCode;
 import static uk.gov.hmcts.reform.sscs.service.CaseCodeService.generateIssueCode;
+import static uk.gov.hmcts.reform.sscs.validators.CaseDataField.APPELLANT;
+import static uk.gov.hmcts.reform.sscs.validators.CaseDataField.BENEFIT_TYPE;
+import static uk.gov.hmcts.reform.sscs.validators.CaseDataField.MRN_DETAILS;
+import static uk.gov.hmcts.reform.sscs.validators.CaseDataField.REGIONAL_PROCESSING_CENTER;
 import static uk.gov.hmcts.reform.sscs.validators.SscsCaseValidator.IS_NOT_A_VALID_POSTCODE;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +44,7 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.DynamicList;
 import uk.gov.hmcts.reform.sscs.ccd.domain.DynamicListItem;
 import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
 import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.RegionalProcessingCenter;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsType;
 import uk.gov.hmcts.reform.sscs.domain.transformation.CaseCreationDetails;
@@ -45,8 +54,18 @@ import uk.gov.hmcts.reform.sscs.handler.InterlocReferralReasonOptions;
 import uk.gov.hmcts.reform.sscs.helper.AppealPostcodeHelper;
 import uk.gov.hmcts.reform.sscs.helper.SscsDataHelper;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineHandler;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineMetrics;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineStage;
+import uk.gov.hmcts.reform.sscs.metrics.StageOutcome;
+import uk.gov.hmcts.reform.sscs.metrics.StageTimer;
 import uk.gov.hmcts.reform.sscs.service.CaseManagementLocationService;
-import uk.gov.hmcts.reform.sscs.service.DwpAddressLookupService;
+import uk.gov.hmcts.reform.sscs.service.DwpOfficeTable;
+import uk.gov.hmcts.reform.sscs.util.ContentFingerprint;
+import uk.gov.hmcts.reform.sscs.util.SingleFlight;
+import uk.gov.hmcts.reform.sscs.validators.CaseDataField;
+import uk.gov.hmcts.reform.sscs.validators.Revalidation;
+import uk.gov.hmcts.reform.sscs.validators.RevalidationCache;
 
 @Slf4j
 @Component
@@ -56,44 +75,78 @@ public class CcdCallbackHandler {
     private static final String LOGSTR_VALIDATION_WARNING = "Warnings found while validating exception record id {} - {}";
     private static final String CASE_TYPE_ID = "Benefit";
 
+    // Read or set by handleValidationAndUpdate itself, rather than by the validation of the case data fields
+    private static final Set<String> VALIDATE_RECORD_PROPERTIES = Set.of(
+        "formType", "ccdCaseId", "interlocReviewState", "directionTypeDl", "subscriptions", "createdInGapsFrom",
+        "evidencePresent", "benefitCode", "issueCode", "caseCode", "dwpRegionalCentre", "processingVenue",
+        "caseManagementLocation", "caseAccessManagementFields");
+
     private final CaseValidator caseValidator;
     private final SscsDataHelper sscsDataHelper;
     private final CaseTransformer caseTransformer;
     private final AppealPostcodeHelper appealPostcodeHelper;
-    private final DwpAddressLookupService dwpAddressLookupService;
+    private final DwpOfficeTable dwpOfficeTable;
     private final CaseManagementLocationService caseManagementLocationService;
     private final boolean caseAccessManagementFeature;
+    private final PipelineMetrics pipelineMetrics;
+    private final RevalidationCache revalidationCache;
+    private final SingleFlight<String, SuccessfulTransformationResponse> inFlightTransformations = new SingleFlight<>();
 
     public CcdCallbackHandler(CaseValidator caseValidator,
                               SscsDataHelper sscsDataHelper,
                               CaseTransformer caseTransformer,
                               AppealPostcodeHelper appealPostcodeHelper,
-                              DwpAddressLookupService dwpAddressLookupService,
+                              DwpOfficeTable dwpOfficeTable,
                               CaseManagementLocationService caseManagementLocationService,
-                              @Value("${feature.case-access-management.enabled}") boolean caseAccessManagementFeature) {
+                              @Value("${feature.case-access-management.enabled}") boolean caseAccessManagementFeature,
+                              PipelineMetrics pipelineMetrics,
+                              RevalidationCache revalidationCache) {
         this.caseValidator = caseValidator;
         this.sscsDataHelper = sscsDataHelper;
         this.caseTransformer = caseTransformer;
         this.appealPostcodeHelper = appealPostcodeHelper;
-        this.dwpAddressLookupService = dwpAddressLookupService;
+        this.dwpOfficeTable = dwpOfficeTable;
         this.caseManagementLocationService = caseManagementLocationService;
         this.caseAccessManagementFeature = caseAccessManagementFeature;
+        this.pipelineMetrics = pipelineMetrics;
+        this.revalidationCache = revalidationCache;
     }
 
     public CaseResponse handleValidation(ExceptionRecord exceptionRecord) {
 
         log.info("Processing callback for SSCS exception record");
 
-        CaseResponse caseTransformationResponse = caseTransformer.transformExceptionRecord(exceptionRecord, true);
+        String formType = exceptionRecord.getFormType();
+        StageTimer totalTimer = pipelineMetrics.startRequest(PipelineHandler.VALIDATE_OCR, exceptionRecord.getId(), formType);
+        StageOutcome outcome = StageOutcome.ERRORS;
+        try {
+            CaseResponse caseTransformationResponse = pipelineMetrics.time(PipelineHandler.VALIDATE_OCR, PipelineStage.TRANSFORM, formType,
+                () -> caseTransformer.transformExceptionRecord(exceptionRecord, true));
 
-        if (caseTransformationResponse.getErrors() != null && !caseTransformationResponse.getErrors().isEmpty()) {
-            log.info("Errors found during validation");
-            return caseTransformationResponse;
-        }
+            if (caseTransformationResponse.getErrors() != null && !caseTransformationResponse.getErrors().isEmpty()) {
+                log.info("Errors found during validation");
+                return caseTransformationResponse;
+            }
+
+            log.info("Exception record id {} transformed successfully ready for validation", exceptionRecord.getId());
+
+            // Fingerprinted before validation changes the transformed case
+            Revalidation revalidation = revalidationCache.start(exceptionRecord, caseTransformationResponse.getTransformedCase());
 
-        log.info("Exception record id {} transformed successfully ready for validation", exceptionRecord.getId());
+            CaseResponse caseValidationResponse = pipelineMetrics.time(PipelineHandler.VALIDATE_OCR, PipelineStage.VALIDATE, formType,
+                () -> revalidation.isTracked()
+                    ? caseValidator.validateExceptionRecord(caseTransformationResponse, exceptionRecord, caseTransformationResponse.getTransformedCase(), true, revalidation)
+                    : caseValidator.validateExceptionRecord(caseTransformationResponse, exceptionRecord, caseTransformationResponse.getTransformedCase(), true));
 
-        return caseValidator.validateExceptionRecord(caseTransformationResponse, exceptionRecord, caseTransformationResponse.getTransformedCase(), true);
+            if (revalidation.isTracked()) {
+                revalidationCache.finish(revalidation);
+                log.info("Reused {} of {} validation steps for exception record", revalidation.reused(), revalidation.steps());
+            }
+            outcome = StageOutcome.of(caseValidationResponse);
+            return caseValidationResponse;
+        } finally {
+            totalTimer.stop(formType, outcome);
+        }
     }
 
     public SuccessfulTransformationResponse handle(ExceptionRecord exceptionRecord) {
@@ -104,40 +157,64 @@ public class CcdCallbackHandler {
         log.info("Processing callback for SSCS exception record id {}", exceptionRecordId);
         log.info("IsAutomatedProcess: {}", exceptionRecord.getIsAutomatedProcess());
 
-        CaseResponse caseTransformationResponse = caseTransformer.transformExceptionRecord(exceptionRecord, false);
-
-        if (caseTransformationResponse.getErrors() != null && !caseTransformationResponse.getErrors().isEmpty()) {
-            log.info("Errors found while transforming exception record id {} - {}", exceptionRecordId, stringJoin(caseTransformationResponse.getErrors()));
-            throw new InvalidExceptionRecordException(caseTransformationResponse.getErrors());
-        }
-
-        if (BooleanUtils.isTrue(exceptionRecord.getIsAutomatedProcess()) && !isEmpty(caseTransformationResponse.getWarnings())) {
-            log.info("Warning found while transforming exception record id {}", exceptionRecordId);
-            throw new InvalidExceptionRecordException(caseTransformationResponse.getWarnings());
-        }
+        // A retried request for the same record and payload waits for the one already running rather than repeating it
+        String inFlightKey = exceptionRecordId + ":" + ContentFingerprint.create().value(exceptionRecord).hash();
+        return inFlightTransformations.execute(inFlightKey, () -> transform(exceptionRecordId, exceptionRecord), () -> {
+            log.info("Joining in-flight transformation of exception record id {}", exceptionRecordId);
+            pipelineMetrics.coalesced(PipelineHandler.TRANSFORM);
+        });
+    }
 
-        log.info("Exception record id {} transformed successfully. About to validate transformed case from exception", exceptionRecordId);
+    private SuccessfulTransformationResponse transform(String exceptionRecordId, ExceptionRecord exceptionRecord) {
+        String formType = exceptionRecord.getFormType();
+        StageTimer totalTimer = pipelineMetrics.startRequest(PipelineHandler.TRANSFORM, exceptionRecordId, formType);
+        StageOutcome outcome = StageOutcome.ERRORS;
+        try {
+            CaseResponse caseTransformationResponse = pipelineMetrics.time(PipelineHandler.TRANSFORM, PipelineStage.TRANSFORM, formType,
+                () -> caseTransformer.transformExceptionRecord(exceptionRecord, false));
+
+            if (caseTransformationResponse.getErrors() != null && !caseTransformationResponse.getErrors().isEmpty()) {
+                log.info("Errors found while transforming exception record id {} - {}", exceptionRecordId, stringJoin(caseTransformationResponse.getErrors()));
+                throw new InvalidExceptionRecordException(caseTransformationResponse.getErrors());
+            }
 
-        CaseResponse caseValidationResponse = caseValidator.validateExceptionRecord(caseTransformationResponse, exceptionRecord, caseTransformationResponse.getTransformedCase(), false);
+            if (BooleanUtils.isTrue(exceptionRecord.getIsAutomatedProcess()) && !isEmpty(caseTransformationResponse.getWarnings())) {
+                log.info("Warning found while transforming exception record id {}", exceptionRecordId);
+                outcome = StageOutcome.WARNINGS;
+                throw new InvalidExceptionRecordException(caseTransformationResponse.getWarnings());
+            }
 
-        if (!isEmpty(caseValidationResponse.getErrors())) {
-            log.info(LOGSTR_VALIDATION_ERRORS, exceptionRecordId, stringJoin(caseValidationResponse.getErrors()));
-            throw new InvalidExceptionRecordException(caseValidationResponse.getErrors());
-        } else if (BooleanUtils.isTrue(exceptionRecord.getIsAutomatedProcess()) && !isEmpty(caseValidationResponse.getWarnings())) {
-            log.info(LOGSTR_VALIDATION_WARNING, exceptionRecordId, stringJoin(caseValidationResponse.getWarnings()));
-            throw new InvalidExceptionRecordException(caseValidationResponse.getWarnings());
-        } else {
-            String eventId = sscsDataHelper.findEventToCreateCase(caseValidationResponse);
+            log.info("Exception record id {} transformed successfully. About to validate transformed case from exception", exceptionRecordId);
 
-            stampReferredCase(caseValidationResponse, eventId);
+            CaseResponse caseValidationResponse = pipelineMetrics.time(PipelineHandler.TRANSFORM, PipelineStage.VALIDATE, formType,
+                () -> caseValidator.validateExceptionRecord(caseTransformationResponse, exceptionRecord, caseTransformationResponse.getTransformedCase(), false));
 
-            return new SuccessfulTransformationResponse(
-                new CaseCreationDetails(
-                    CASE_TYPE_ID,
-                    eventId,
-                    caseValidationResponse.getTransformedCase()
-                ),
-            caseValidationResponse.getWarnings(), Map.of("$set", Map.of("HMCTSServiceId", "BBA3")));
+            if (!isEmpty(caseValidationResponse.getErrors())) {
+                log.info(LOGSTR_VALIDATION_ERRORS, exceptionRecordId, stringJoin(caseValidationResponse.getErrors()));
+                throw new InvalidExceptionRecordException(caseValidationResponse.getErrors());
+            } else if (BooleanUtils.isTrue(exceptionRecord.getIsAutomatedProcess()) && !isEmpty(caseValidationResponse.getWarnings())) {
+                log.info(LOGSTR_VALIDATION_WARNING, exceptionRecordId, stringJoin(caseValidationResponse.getWarnings()));
+                outcome = StageOutcome.WARNINGS;
+                throw new InvalidExceptionRecordException(caseValidationResponse.getWarnings());
+            } else {
+                StageTimer caseEventTimer = pipelineMetrics.start(PipelineHandler.TRANSFORM, PipelineStage.CASE_EVENT);
+                String eventId = pipelineMetrics.timeInRequest(PipelineStage.FIND_EVENT,
+                    () -> sscsDataHelper.findEventToCreateCase(caseValidationResponse));
+
+                stampReferredCase(caseValidationResponse, eventId);
+                outcome = StageOutcome.of(caseValidationResponse);
+                caseEventTimer.stop(formType, outcome);
+
+                return new SuccessfulTransformationResponse(
+                    new CaseCreationDetails(
+                        CASE_TYPE_ID,
+                        eventId,
+                        caseValidationResponse.getTransformedCase()
+                    ),
+                caseValidationResponse.getWarnings(), Map.of("$set", Map.of("HMCTSServiceId", "BBA3")));
+            }
+        } finally {
+            totalTimer.stop(formType, outcome);
         }
     }
 
@@ -145,58 +222,94 @@ public class CcdCallbackHandler {
         return String.join(". ", messages);
     }
 
+    /**
+     * The case data properties that {@link #handleValidationAndUpdate} reads or sets, which are all that need binding.
+     */
+    public static Set<String> validateRecordCaseDataProperties() {
+        return Stream.concat(VALIDATE_RECORD_PROPERTIES.stream(), CaseDataField.caseDataProperties().stream())
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
     public PreSubmitCallbackResponse<SscsCaseData> handleValidationAndUpdate(Callback<SscsCaseData> callback, IdamTokens token) {
         log.info("Processing validation and update request for SSCS exception record id {}", callback.getCaseDetails().getId());
 
-        if (null != callback.getCaseDetails().getCaseData().getInterlocReviewState()) {
-            callback.getCaseDetails().getCaseData().setInterlocReviewState(NONE);
-        }
-
-        setUnsavedFieldsOnCallback(callback);
-
         FormType formType = callback.getCaseDetails().getCaseData().getFormType();
-        Map<String, Object> appealData = new HashMap<>();
-        sscsDataHelper.addSscsDataToMap(appealData,
-            callback.getCaseDetails().getCaseData().getAppeal(),
-            callback.getCaseDetails().getCaseData().getSscsDocument(),
-            callback.getCaseDetails().getCaseData().getSubscriptions(),
-            formType,
-            callback.getCaseDetails().getCaseData().getChildMaintenanceNumber(),
-            callback.getCaseDetails().getCaseData().getOtherParties()
-        );
-
-        boolean ignoreMrnValidation = false;
-        EventType eventType = callback.getEvent();
-        if ((EventType.DIRECTION_ISSUED.equals(eventType)
-            || EventType.DIRECTION_ISSUED_WELSH.equals(eventType))
-            && callback.getCaseDetails().getCaseData().getDirectionTypeDl() != null) {
-            ignoreMrnValidation = StringUtils.equals(DirectionType.APPEAL_TO_PROCEED.toString(),
-                callback.getCaseDetails().getCaseData().getDirectionTypeDl().getValue().getCode());
-        }
+        StageTimer totalTimer = pipelineMetrics.startRequest(PipelineHandler.VALIDATE_RECORD,
+            Objects.toString(callback.getCaseDetails().getId(), null), formType);
+        StageOutcome outcome = StageOutcome.ERRORS;
+        try {
+            if (null != callback.getCaseDetails().getCaseData().getInterlocReviewState()) {
+                callback.getCaseDetails().getCaseData().setInterlocReviewState(NONE);
+            }
 
-        CaseResponse caseValidationResponse = caseValidator.validateValidationRecord(appealData, ignoreMrnValidation, eventType);
+            boolean ignoreMrnValidation = false;
+            EventType eventType = callback.getEvent();
+            if ((EventType.DIRECTION_ISSUED.equals(eventType)
+                || EventType.DIRECTION_ISSUED_WELSH.equals(eventType))
+                && callback.getCaseDetails().getCaseData().getDirectionTypeDl() != null) {
+                ignoreMrnValidation = StringUtils.equals(DirectionType.APPEAL_TO_PROCEED.toString(),
+                    callback.getCaseDetails().getCaseData().getDirectionTypeDl().getValue().getCode());
+            }
 
-        PreSubmitCallbackResponse<SscsCaseData> validationErrorResponse = convertWarningsToErrors(callback.getCaseDetails().getCaseData(), caseValidationResponse);
+            // Compared with the case details before while the record is still as it arrived
+            Revalidation revalidation = revalidationCache.start(callback, ignoreMrnValidation);
+
+            StageTimer unsavedFieldsTimer = pipelineMetrics.start(PipelineHandler.VALIDATE_RECORD, PipelineStage.UNSAVED_FIELDS);
+            setUnsavedFieldsOnCallback(callback, revalidation);
+            unsavedFieldsTimer.stop(formType, StageOutcome.SUCCESS);
+
+            StageTimer dataMappingTimer = pipelineMetrics.start(PipelineHandler.VALIDATE_RECORD, PipelineStage.DATA_MAPPING);
+            Map<String, Object> appealData = new HashMap<>();
+            sscsDataHelper.addSscsDataToMap(appealData,
+                callback.getCaseDetails().getCaseData().getAppeal(),
+                callback.getCaseDetails().getCaseData().getSscsDocument(),
+                callback.getCaseDetails().getCaseData().getSubscriptions(),
+                formType,
+                callback.getCaseDetails().getCaseData().getChildMaintenanceNumber(),
+                callback.getCaseDetails().getCaseData().getOtherParties()
+            );
+            dataMappingTimer.stop(formType, StageOutcome.SUCCESS);
+
+            StageTimer validateTimer = pipelineMetrics.start(PipelineHandler.VALIDATE_RECORD, PipelineStage.VALIDATE);
+            CaseResponse caseValidationResponse = revalidation.isTracked()
+                ? caseValidator.validateValidationRecord(appealData, ignoreMrnValidation, eventType, revalidation)
+                : caseValidator.validateValidationRecord(appealData, ignoreMrnValidation, eventType);
+            validateTimer.stop(formType, StageOutcome.of(caseValidationResponse));
+
+            if (revalidation.isTracked()) {
+                revalidationCache.finish(callback, revalidation);
+                log.info("Reused {} of {} validation steps for case id {}", revalidation.reused(), revalidation.steps(),
+                    callback.getCaseDetails().getId());
+            }
 
-        if (validationErrorResponse != null) {
-            log.info(LOGSTR_VALIDATION_ERRORS, callback.getCaseDetails().getId(), ".");
-            return validationErrorResponse;
-        } else {
-            log.info("Exception record id {} validated successfully", callback.getCaseDetails().getId());
+            PreSubmitCallbackResponse<SscsCaseData> validationErrorResponse = convertWarningsToErrors(callback.getCaseDetails().getCaseData(), caseValidationResponse);
 
-            PreSubmitCallbackResponse<SscsCaseData> preSubmitCallbackResponse = new PreSubmitCallbackResponse<>(callback.getCaseDetails().getCaseData());
+            if (validationErrorResponse != null) {
+                log.info(LOGSTR_VALIDATION_ERRORS, callback.getCaseDetails().getId(), ".");
+                outcome = isEmpty(validationErrorResponse.getErrors()) ? StageOutcome.WARNINGS : StageOutcome.ERRORS;
+                return validationErrorResponse;
+            } else {
+                log.info("Exception record id {} validated successfully", callback.getCaseDetails().getId());
 
-            if (caseValidationResponse.getWarnings() != null) {
-                preSubmitCallbackResponse.addWarnings(caseValidationResponse.getWarnings());
-            }
+                PreSubmitCallbackResponse<SscsCaseData> preSubmitCallbackResponse = new PreSubmitCallbackResponse<>(callback.getCaseDetails().getCaseData());
 
-            caseValidationResponse.setTransformedCase(caseTransformer.checkForMatches(caseValidationResponse.getTransformedCase(), token));
+                if (caseValidationResponse.getWarnings() != null) {
+                    preSubmitCallbackResponse.addWarnings(caseValidationResponse.getWarnings());
+                }
 
-            return preSubmitCallbackResponse;
+                StageTimer matchCasesTimer = pipelineMetrics.start(PipelineHandler.VALIDATE_RECORD, PipelineStage.MATCH_CASES);
+                caseValidationResponse.setTransformedCase(caseTransformer.checkForMatches(caseValidationResponse.getTransformedCase(), token));
+                matchCasesTimer.stop(formType, StageOutcome.SUCCESS);
+
+                outcome = isEmpty(preSubmitCallbackResponse.getWarnings()) ? StageOutcome.SUCCESS : StageOutcome.WARNINGS;
+                return preSubmitCallbackResponse;
+            }
+        } finally {
+            totalTimer.stop(formType, outcome);
         }
     }
 
-    private void setUnsavedFieldsOnCallback(Callback<SscsCaseData> callback) {
+    private void setUnsavedFieldsOnCallback(Callback<SscsCaseData> callback, Revalidation revalidation) {
         Appeal appeal = callback.getCaseDetails().getCaseData().getAppeal();
         callback.getCaseDetails().getCaseData().setCreatedInGapsFrom(READY_TO_LIST.getId());
         callback.getCaseDetails().getCaseData().setEvidencePresent(sscsDataHelper.hasEvidence(callback.getCaseDetails().getCaseData().getSscsDocument()));
@@ -218,22 +331,20 @@ public class CcdCallbackHandler {
             if (callback.getCaseDetails().getCaseData().getAppeal().getMrnDetails() != null
                 && callback.getCaseDetails().getCaseData().getAppeal().getMrnDetails().getDwpIssuingOffice() != null) {
 
-                String dwpRegionCentre = dwpAddressLookupService.getDwpRegionalCenterByBenefitTypeAndOffice(
-                    appeal.getBenefitType().getCode(),
-                    appeal.getMrnDetails().getDwpIssuingOffice());
+                String dwpRegionCentre = revalidation.reuseOr("DWP regional centre", EnumSet.of(BENEFIT_TYPE, MRN_DETAILS),
+                    () -> dwpOfficeTable.getDwpRegionalCenterByBenefitTypeAndOffice(
+                        appeal.getBenefitType().getCode(),
+                        appeal.getMrnDetails().getDwpIssuingOffice()));
 
                 callback.getCaseDetails().getCaseData().setDwpRegionalCentre(dwpRegionCentre);
             }
 
-            String postCodeOrPort = appealPostcodeHelper.resolvePostCodeOrPort(appeal.getAppellant());
-            String processingVenue = sscsDataHelper.findProcessingVenue(postCodeOrPort, appeal.getBenefitType());
-
-            if (isNotBlank(processingVenue)) {
-                callback.getCaseDetails().getCaseData().setProcessingVenue(processingVenue);
-                Optional<CaseManagementLocation> caseManagementLocationOptional = caseManagementLocationService
-                    .retrieveCaseManagementLocation(processingVenue, callback.getCaseDetails().getCaseData().getRegionalProcessingCenter());
+            Venue venue = revalidation.reuseOr("processing venue", EnumSet.of(APPELLANT, BENEFIT_TYPE, REGIONAL_PROCESSING_CENTER),
+                () -> findVenue(appeal, callback.getCaseDetails().getCaseData().getRegionalProcessingCenter()));
 
-                caseManagementLocationOptional.ifPresent(caseManagementLocation ->
+            if (isNotBlank(venue.processingVenue())) {
+                callback.getCaseDetails().getCaseData().setProcessingVenue(venue.processingVenue());
+                venue.caseManagementLocation().ifPresent(caseManagementLocation ->
                     callback.getCaseDetails().getCaseData()
                         .setCaseManagementLocation(caseManagementLocation));
             }
@@ -245,6 +356,17 @@ public class CcdCallbackHandler {
         setCaseAccessManagementFields(appeal, callback);
     }
 
+    private Venue findVenue(Appeal appeal, RegionalProcessingCenter regionalProcessingCenter) {
+        String postCodeOrPort = appealPostcodeHelper.resolvePostCodeOrPort(appeal.getAppellant());
+        String processingVenue = sscsDataHelper.findProcessingVenue(postCodeOrPort, appeal.getBenefitType());
+
+        if (isNotBlank(processingVenue)) {
+            return new Venue(processingVenue, caseManagementLocationService
+                .retrieveCaseManagementLocation(processingVenue, regionalProcessingCenter));
+        }
+        return new Venue(processingVenue, Optional.empty());
+    }
+
     private void setCaseAccessManagementCategories(Appeal appeal, Callback<SscsCaseData> callback) {
         if (caseAccessManagementFeature) {
             Optional<Benefit> benefit = Benefit.getBenefitOptionalByCode(appeal.getBenefitType().getCode());
@@ -352,4 +474,7 @@ public class CcdCallbackHandler {
             || StringUtils.isNotBlank(appeal.getAppealReasons().getReasons().get(0).getValue().getDescription()));
     }
 
+    private record Venue(String processingVenue, Optional<CaseManagementLocation> caseManagementLocation) {
+    }
+
 }
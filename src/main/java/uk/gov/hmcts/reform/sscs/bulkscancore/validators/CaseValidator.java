@@ -4,6 +4,7 @@ import java.util.Map;
 import uk.gov.hmcts.reform.sscs.bulkscancore.domain.CaseResponse;
 import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ExceptionRecord;
 import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
+import uk.gov.hmcts.reform.sscs.validators.Revalidation;
 
 /**
  * Each jurisdiction service needs to provide implementation of this interface
@@ -14,5 +15,21 @@ public interface CaseValidator {
 
     CaseResponse validateValidationRecord(Map<String, Object> caseData, boolean ignoreMrnValidation, EventType eventType);
 
+    /**
+     * Validates a record again, reusing what was worked out last time for anything unchanged since then.
+     */
+    default CaseResponse validateValidationRecord(Map<String, Object> caseData, boolean ignoreMrnValidation, EventType eventType,
+                                                  Revalidation revalidation) {
+        return validateValidationRecord(caseData, ignoreMrnValidation, eventType);
+    }
+
     CaseResponse validateExceptionRecord(CaseResponse transformResponse, ExceptionRecord exceptionRecord, Map<String, Object> caseData, boolean combineWarnings);
+
+    /**
+     * Validates an exception record, reusing what was worked out for the same fields by an earlier validation.
+     */
+    default CaseResponse validateExceptionRecord(CaseResponse transformResponse, ExceptionRecord exceptionRecord, Map<String, Object> caseData,
+                                                 boolean combineWarnings, Revalidation revalidation) {
+        return validateExceptionRecord(transformResponse, exceptionRecord, caseData, combineWarnings);
+    }
 }
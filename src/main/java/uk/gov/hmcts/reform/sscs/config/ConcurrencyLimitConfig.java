@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.sscs.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.sscs.util.ConcurrencyLimiter;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "feature.concurrency-limit.enabled", havingValue = "true")
+    public ConcurrencyLimitInterceptor concurrencyLimitInterceptor(
+        MeterRegistry registry,
+        @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+        @Value("${concurrency-limit.min-limit:4}") int minLimit,
+        @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+        @Value("${concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+        @Value("${concurrency-limit.latency-threshold:PT2S}") Duration latencyThreshold,
+        @Value("${concurrency-limit.retry-after:PT1S}") Duration retryAfter) {
+        return new ConcurrencyLimitInterceptor(
+            new ConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold), retryAfter, registry);
+    }
+}
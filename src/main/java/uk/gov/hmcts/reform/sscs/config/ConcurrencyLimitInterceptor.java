@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.sscs.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import uk.gov.hmcts.reform.sscs.util.ConcurrencyLimiter;
+
+/**
+ * Sheds requests above the {@link ConcurrencyLimiter} limit with a 503 and a Retry-After header, so that a burst from
+ * the orchestrator or a slow CCD backs requests off rather than queueing them until they all time out. The limit,
+ * requests in flight and rejections are published as {@value #LIMIT}, {@value #IN_FLIGHT} and {@value #REJECTED}.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT = "bulkscan.concurrency.limit";
+    public static final String IN_FLIGHT = "bulkscan.concurrency.in.flight";
+    public static final String REJECTED = "bulkscan.concurrency.rejected";
+
+    private static final String STARTED = ConcurrencyLimitInterceptor.class.getName() + ".started";
+
+    private final ConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+    private final Counter rejected;
+
+    public ConcurrencyLimitInterceptor(ConcurrencyLimiter limiter, Duration retryAfter, MeterRegistry registry) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        Gauge.builder(LIMIT, limiter, ConcurrencyLimiter::limit)
+            .description("Requests allowed to run at once")
+            .register(registry);
+        Gauge.builder(IN_FLIGHT, limiter, ConcurrencyLimiter::inFlight)
+            .description("Requests currently running under the concurrency limit")
+            .register(registry);
+        this.rejected = Counter.builder(REJECTED)
+            .description("Requests rejected as the concurrency limit was reached")
+            .register(registry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!limiter.tryAcquire()) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return false;
+        }
+        request.setAttribute(STARTED, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object started = request.getAttribute(STARTED);
+        if (started != null) {
+            request.removeAttribute(STARTED);
+            limiter.release(System.nanoTime() - (Long) started);
+        }
+    }
+}
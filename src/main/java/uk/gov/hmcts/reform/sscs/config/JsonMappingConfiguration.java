@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.sscs.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.CaseResponse;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ExceptionRecord;
+import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.domain.transformation.SuccessfulTransformationResponse;
+import uk.gov.hmcts.reform.sscs.domain.validation.OcrDataValidationRequest;
+import uk.gov.hmcts.reform.sscs.domain.validation.OcrValidationResponse;
+
+/**
+ * Tunes the mapping of the request and response bodies. Spring Boot registers the Blackbird module with its
+ * ObjectMapper, so properties are read and written through generated lambdas rather than reflection, and the
+ * deserialisers and serialisers for the request and response types are resolved and cached once the application has
+ * started, instead of by the first requests.
+ */
+@Slf4j
+@Configuration
+public class JsonMappingConfiguration {
+
+    static final List<Class<?>> REQUEST_TYPES = List.of(ExceptionRecord.class, OcrDataValidationRequest.class);
+
+    static final List<Class<?>> RESPONSE_TYPES = List.of(
+        OcrValidationResponse.class, SuccessfulTransformationResponse.class, CaseResponse.class, PreSubmitCallbackResponse.class);
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public ApplicationRunner jsonMappingPrewarm(ObjectMapper objectMapper) {
+        return args -> {
+            long start = System.nanoTime();
+            REQUEST_TYPES.forEach(objectMapper::readerFor);
+            RESPONSE_TYPES.forEach(objectMapper::writerFor);
+            JavaType callbackResponse = objectMapper.getTypeFactory()
+                .constructParametricType(PreSubmitCallbackResponse.class, SscsCaseData.class);
+            objectMapper.writerFor(callbackResponse);
+            log.info("Resolved JSON mapping for {} types in {} ms", REQUEST_TYPES.size() + RESPONSE_TYPES.size() + 1,
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+        };
+    }
+}
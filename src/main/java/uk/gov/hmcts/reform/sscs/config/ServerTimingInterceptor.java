@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.sscs.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import uk.gov.hmcts.reform.sscs.metrics.ServerTiming;
+
+/**
+ * Starts collecting {@link ServerTiming} entries for a request and discards them once it completes. The header
+ * itself is written by {@link ServerTimingResponseAdvice} before the body is committed.
+ */
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ServerTiming.begin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ServerTiming.end();
+    }
+}
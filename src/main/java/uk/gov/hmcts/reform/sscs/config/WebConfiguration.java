@@ -1,12 +1,27 @@
 package uk.gov.hmcts.reform.sscs.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfiguration implements WebMvcConfigurer {
 
+    private static final String[] PIPELINE_PATHS = {"/transform-exception-record/**", "/transform-scanned-data/**",
+        "/forms/*/validate-ocr/**", "/validate-record/**"};
+
+    private final boolean serverTimingEnabled;
+    private final ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor;
+
+    public WebConfiguration(@Value("${feature.server-timing.enabled:false}") boolean serverTimingEnabled,
+                            ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor) {
+        this.serverTimingEnabled = serverTimingEnabled;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+    }
+
     /**
      * Match paths with a trailing slash to keep compatibility with Spring Boot 2.
      */
@@ -14,4 +29,17 @@ public class WebConfiguration implements WebMvcConfigurer {
     public void configurePathMatch(PathMatchConfigurer configurer) {
         configurer.setUseTrailingSlashMatch(true);
     }
+
+    /**
+     * Shed load above the concurrency limit, if it is switched on, and report per-stage timings in a Server-Timing
+     * header on the transformation and validation endpoints. Shed requests are not timed.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        concurrencyLimitInterceptor.ifAvailable(interceptor ->
+            registry.addInterceptor(interceptor).addPathPatterns(PIPELINE_PATHS));
+        if (serverTimingEnabled) {
+            registry.addInterceptor(new ServerTimingInterceptor()).addPathPatterns(PIPELINE_PATHS);
+        }
+    }
 }
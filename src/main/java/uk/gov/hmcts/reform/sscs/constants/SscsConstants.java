@@ -72,6 +72,9 @@ public final class SscsConstants {
     public static final String HAS_INVALID_ADDRESS  = "has invalid characters at the beginning";
     public static final String IS_IN_FUTURE = "is in future";
     public static final String IS_IN_PAST = "is in past";
+    public static final String IS_NOT_A_VALID_POSTCODE = "is not a valid postcode";
+    public static final String IS_NOT_IN_A_VALID_FORMAT = "is not in a valid format";
+    public static final String IS_NOT_MAPPED_TO_A_REGIONAL_PROCESSING_CENTER = "is not a postcode that maps to a regional processing center";
     public static final String HEARING_TYPE_TELEPHONE_LITERAL = "hearing_type_telephone";
     public static final String HEARING_TELEPHONE_LITERAL = "hearing_telephone_number";
     public static final String HEARING_TELEPHONE_NUMBER_MULTIPLE_LITERAL = "hearing_telephone_number_multiple";
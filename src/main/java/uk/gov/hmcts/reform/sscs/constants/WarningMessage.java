@@ -3,6 +3,11 @@ package uk.gov.hmcts.reform.sscs.constants;
 import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.*;
 import static uk.gov.hmcts.reform.sscs.domain.CallbackType.EXCEPTION_CALLBACK;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import uk.gov.hmcts.reform.sscs.domain.CallbackType;
 
 public enum WarningMessage {
@@ -65,20 +70,107 @@ public enum WarningMessage {
     PERSON1_CHILD_MAINTENANCE_NUMBER("person1_child_maintenance_number", "Child maintenance number"),
     APPELLANT_PARTY_NAME("is_paying_parent, is_receiving_parent, is_another_party and other_party_details", "Appellant role and/or description"),
     APPELLANT_PARTY_DESCRIPTION("other_party_details", "Appellant role and/or description");
-    private String exceptionRecordMessage;
-    private String validationRecordMessage;
+
+    /**
+     * The person types messages are built for, with "" for messages about the appeal rather than a person.
+     */
+    private static final List<String> PERSON_TYPES = List.of("", PERSON1_VALUE, PERSON2_VALUE, REPRESENTATIVE_VALUE, OTHER_PARTY_VALUE);
+
+    /**
+     * The endings messages are built with. No ending is looked up separately.
+     */
+    private static final List<String> END_MESSAGES = List.of(IS_EMPTY, IS_MISSING, ARE_EMPTY, IS_INVALID, HAS_INVALID_ADDRESS,
+        IS_IN_FUTURE, IS_IN_PAST, IS_NOT_A_VALID_POSTCODE, IS_NOT_IN_A_VALID_FORMAT, IS_NOT_MAPPED_TO_A_REGIONAL_PROCESSING_CENTER,
+        PHONE_SELECTED_NOT_PROVIDED, EMAIL_SELECTED_NOT_PROVIDED);
+
+    private static final List<String> PERSON_NAMES = List.of("APPELLANT", "APPOINTEE", "REPRESENTATIVE", "OTHER_PARTY");
+
+    private static final int UNKNOWN = -1;
+    private static final Map<String, Integer> PERSON_TYPE_INDEX = index(PERSON_TYPES, 0);
+    // From 1, as index 0 of each row is the message with no ending
+    private static final Map<String, Integer> END_MESSAGE_INDEX = index(END_MESSAGES, 1);
+    // Person name, then field suffix in either case, for example APPELLANT then _title or _TITLE
+    private static final Map<String, Map<String, WarningMessage>> BY_PERSON_AND_FIELD;
+
+    private final String exceptionRecordMessage;
+    private final String validationRecordMessage;
+    private String[][] exceptionRecordMessages;
+    private String[] validationRecordMessages;
+
+    static {
+        Map<String, Map<String, WarningMessage>> byPersonAndField = new HashMap<>();
+        for (WarningMessage message : values()) {
+            message.exceptionRecordMessages = new String[PERSON_TYPES.size()][];
+            for (int person = 0; person < PERSON_TYPES.size(); person++) {
+                message.exceptionRecordMessages[person] = messages(PERSON_TYPES.get(person) + message.exceptionRecordMessage);
+            }
+            message.validationRecordMessages = messages(message.validationRecordMessage);
+
+            for (String personName : PERSON_NAMES) {
+                if (message.name().startsWith(personName + "_")) {
+                    String field = message.name().substring(personName.length());
+                    Map<String, WarningMessage> fields = byPersonAndField.computeIfAbsent(personName, name -> new HashMap<>());
+                    fields.putIfAbsent(field, message);
+                    fields.putIfAbsent(field.toLowerCase(Locale.ROOT), message);
+                }
+            }
+        }
+        byPersonAndField.replaceAll((personName, fields) -> Collections.unmodifiableMap(fields));
+        BY_PERSON_AND_FIELD = Collections.unmodifiableMap(byPersonAndField);
+    }
 
     WarningMessage(String exceptionRecordMessage, String validationRecordMessage) {
         this.exceptionRecordMessage = exceptionRecordMessage;
         this.validationRecordMessage = validationRecordMessage;
     }
 
+    /**
+     * The message about a person's field, for a person name from {@code APPELLANT}, {@code APPOINTEE},
+     * {@code REPRESENTATIVE} and {@code OTHER_PARTY} and a field suffix such as {@link SscsConstants#TITLE}.
+     */
+    public static WarningMessage of(String personName, String field) {
+        Map<String, WarningMessage> fields = BY_PERSON_AND_FIELD.get(personName);
+        WarningMessage message = fields != null ? fields.get(field) : null;
+        return message != null ? message : valueOf((personName + field).toUpperCase());
+    }
+
+    /**
+     * The message for the given callback, person type and ending, which is looked up rather than built for every
+     * person type and ending the validators use.
+     */
+    public String message(CallbackType callbackType, String personType, String endMessage) {
+        boolean exceptionRecord = callbackType == EXCEPTION_CALLBACK;
+        int end = endMessage == null ? 0 : END_MESSAGE_INDEX.getOrDefault(endMessage, UNKNOWN);
+        int person = exceptionRecord ? PERSON_TYPE_INDEX.getOrDefault(personType, UNKNOWN) : 0;
+        if (end == UNKNOWN || person == UNKNOWN) {
+            return build(exceptionRecord ? personType + exceptionRecordMessage : validationRecordMessage, endMessage);
+        }
+        return exceptionRecord ? exceptionRecordMessages[person][end] : validationRecordMessages[end];
+    }
+
     public static String getMessageByCallbackType(CallbackType callbackType, String personType, String name, String endMessage) {
-        String startMessage =  callbackType == EXCEPTION_CALLBACK
-            ? personType + valueOf(name.toUpperCase()).exceptionRecordMessage
-            : valueOf(name.toUpperCase()).validationRecordMessage;
+        return valueOf(name.toUpperCase()).message(callbackType, personType, endMessage);
+    }
+
+    private static String[] messages(String startMessage) {
+        String[] messages = new String[END_MESSAGES.size() + 1];
+        messages[0] = startMessage.intern();
+        for (int end = 0; end < END_MESSAGES.size(); end++) {
+            messages[end + 1] = build(startMessage, END_MESSAGES.get(end)).intern();
+        }
+        return messages;
+    }
 
+    private static String build(String startMessage, String endMessage) {
         return endMessage != null ? startMessage + " " + endMessage : startMessage;
     }
 
+    // Unmodifiable rather than Map.copyOf, so a null person type is simply not found
+    private static Map<String, Integer> index(List<String> values, int from) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            index.put(values.get(i), from + i);
+        }
+        return Collections.unmodifiableMap(index);
+    }
 }
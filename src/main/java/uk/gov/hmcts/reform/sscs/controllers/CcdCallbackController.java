@@ -3,16 +3,18 @@ package uk.gov.hmcts.reform.sscs.controllers;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.io.InputStream;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
@@ -20,9 +22,10 @@ import uk.gov.hmcts.reform.sscs.auth.AuthService;
 import uk.gov.hmcts.reform.sscs.bulkscancore.handlers.CcdCallbackHandler;
 import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
 import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
-import uk.gov.hmcts.reform.sscs.ccd.deserialisation.SscsCaseCallbackDeserializer;
 import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+import uk.gov.hmcts.reform.sscs.json.PartialCallback;
+import uk.gov.hmcts.reform.sscs.json.SscsCaseCallbackReader;
 
 @RestController
 public class CcdCallbackController {
@@ -33,22 +36,32 @@ public class CcdCallbackController {
 
     private final AuthService authService;
 
-    private final SscsCaseCallbackDeserializer deserializer;
+    private final SscsCaseCallbackReader callbackReader;
+
+    private final boolean partialBinding;
+
+    private final boolean incrementalValidation;
 
     @Autowired
     public CcdCallbackController(
         CcdCallbackHandler ccdCallbackHandler,
         AuthService authService,
-        SscsCaseCallbackDeserializer deserializer
+        SscsCaseCallbackReader callbackReader,
+        @Value("${feature.partial-callback-binding.enabled:false}") boolean partialBinding,
+        @Value("${feature.incremental-validation.enabled:false}") boolean incrementalValidation
     ) {
         this.ccdCallbackHandler = ccdCallbackHandler;
         this.authService = authService;
-        this.deserializer = deserializer;
+        this.callbackReader = callbackReader;
+        this.partialBinding = partialBinding;
+        this.incrementalValidation = incrementalValidation;
     }
 
     @PostMapping(path = "/validate-record",
         consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Handles callback from SSCS to check case meets validation to change state to appeal created")
+    @Operation(summary = "Handles callback from SSCS to check case meets validation to change state to appeal created",
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true,
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = Callback.class))))
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200",
             description = "Callback was processed successfully or in case of an error message is attached to the case",
@@ -57,13 +70,15 @@ public class CcdCallbackController {
         @ApiResponse(responseCode = "400", description = "Bad Request"),
         @ApiResponse(responseCode = "500", description = "Internal Server Error")
     })
-    public ResponseEntity<PreSubmitCallbackResponse<SscsCaseData>> handleValidationCallback(
+    public ResponseEntity<?> handleValidationCallback(
         @RequestHeader(value = "Authorization") String userAuthToken,
         @RequestHeader(value = "serviceauthorization", required = false) String serviceAuthToken,
         @RequestHeader(value = "user-id") String userId,
-        @RequestBody String message) {
+        @Parameter(hidden = true) InputStream body) {
 
-        Callback<SscsCaseData> callback = deserializer.deserialize(message);
+        // Parsed from the request stream, as a large case held as a String as well would double its footprint
+        PartialCallback partialCallback = partialBinding ? callbackReader.readPartial(body, incrementalValidation) : null;
+        Callback<SscsCaseData> callback = partialBinding ? partialCallback.callback() : callbackReader.read(body);
 
         logger.info("Request received for to validate SSCS exception record id {}", callback.getCaseDetails().getId());
 
@@ -77,6 +92,6 @@ public class CcdCallbackController {
 
         PreSubmitCallbackResponse<SscsCaseData> ccdCallbackResponse = ccdCallbackHandler.handleValidationAndUpdate(callback, token);
 
-        return ResponseEntity.ok(ccdCallbackResponse);
+        return ResponseEntity.ok(partialBinding ? partialCallback.respond(ccdCallbackResponse) : ccdCallbackResponse);
     }
 }
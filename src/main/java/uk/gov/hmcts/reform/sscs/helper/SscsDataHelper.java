@@ -22,8 +22,8 @@ import uk.gov.hmcts.reform.sscs.ccd.domain.*;
 import uk.gov.hmcts.reform.sscs.domain.CaseEvent;
 import uk.gov.hmcts.reform.sscs.domain.validation.ValidationStatus;
 import uk.gov.hmcts.reform.sscs.model.dwp.OfficeMapping;
-import uk.gov.hmcts.reform.sscs.service.AirLookupService;
-import uk.gov.hmcts.reform.sscs.service.DwpAddressLookupService;
+import uk.gov.hmcts.reform.sscs.service.DwpOfficeTable;
+import uk.gov.hmcts.reform.sscs.service.PostcodeLookupCache;
 
 @Component
 @Slf4j
@@ -32,17 +32,17 @@ public class SscsDataHelper {
     private static final String CASE_MANAGEMENT_CATEGORY = "caseManagementCategory";
 
     private final CaseEvent caseEvent;
-    private final AirLookupService airLookupService;
-    private final DwpAddressLookupService dwpAddressLookupService;
+    private final PostcodeLookupCache postcodeLookupCache;
+    private final DwpOfficeTable dwpOfficeTable;
     private final boolean caseAccessManagementFeature;
 
     public SscsDataHelper(CaseEvent caseEvent,
-                          AirLookupService airLookupService,
-                          DwpAddressLookupService dwpAddressLookupService,
+                          PostcodeLookupCache postcodeLookupCache,
+                          DwpOfficeTable dwpOfficeTable,
                           @Value("${feature.case-access-management.enabled}")  boolean caseAccessManagementFeature) {
         this.caseEvent = caseEvent;
-        this.airLookupService = airLookupService;
-        this.dwpAddressLookupService = dwpAddressLookupService;
+        this.postcodeLookupCache = postcodeLookupCache;
+        this.dwpOfficeTable = dwpOfficeTable;
         this.caseAccessManagementFeature = caseAccessManagementFeature;
     }
 
@@ -157,18 +157,18 @@ public class SscsDataHelper {
     private String setDwpRegionalCenter(Appeal appeal) {
         String dwpRegionCentre = null;
         if (appeal.getMrnDetails() != null && appeal.getMrnDetails().getDwpIssuingOffice() != null) {
-            dwpRegionCentre = dwpAddressLookupService.getDwpRegionalCenterByBenefitTypeAndOffice(
+            dwpRegionCentre = dwpOfficeTable.getDwpRegionalCenterByBenefitTypeAndOffice(
                 appeal.getBenefitType().getCode(),
                 appeal.getMrnDetails().getDwpIssuingOffice());
-            log.info("DwpHandling office set as " + dwpRegionCentre);
+            log.info("DwpHandling office set as {}", dwpRegionCentre);
         } else if (appeal.getMrnDetails() == null || appeal.getMrnDetails().getDwpIssuingOffice() == null) {
-            Optional<OfficeMapping> defaultOfficeMapping = dwpAddressLookupService.getDefaultDwpMappingByBenefitType(appeal.getBenefitType().getCode());
+            Optional<OfficeMapping> defaultOfficeMapping = dwpOfficeTable.getDefaultDwpMappingByBenefitType(appeal.getBenefitType().getCode());
             if (defaultOfficeMapping.isPresent()) {
                 String defaultDwpIssuingOffice = defaultOfficeMapping.get().getMapping().getCcd();
-                dwpRegionCentre = dwpAddressLookupService.getDwpRegionalCenterByBenefitTypeAndOffice(
+                dwpRegionCentre = dwpOfficeTable.getDwpRegionalCenterByBenefitTypeAndOffice(
                     appeal.getBenefitType().getCode(),
                     defaultDwpIssuingOffice);
-                log.info("Default dwpHandling office set as " + dwpRegionCentre);
+                log.info("Default dwpHandling office set as {}", dwpRegionCentre);
             }
         }
         return dwpRegionCentre;
@@ -212,7 +212,7 @@ public class SscsDataHelper {
         if (isNotBlank(postcode)
             && nonNull(benefitType)
             && isNotBlank(benefitType.getCode())) {
-            return airLookupService.lookupAirVenueNameByPostCode(postcode, benefitType);
+            return postcodeLookupCache.getAirVenueNameByPostcode(postcode, benefitType);
         }
         return null;
     }
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.sscs.json;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.util.Map;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+
+/**
+ * A callback whose case data is only partly bound, with the raw tokens of every case data field that was not and
+ * case data as partial binding leaves it with no fields bound, to tell which of those fields a handler has set.
+ */
+public record PartialCallback(Callback<SscsCaseData> callback, Map<String, TokenBuffer> untouched, SscsCaseData unbound) {
+
+    public PartialCallbackResponse respond(PreSubmitCallbackResponse<SscsCaseData> response) {
+        return new PartialCallbackResponse(response, untouched, unbound);
+    }
+}
@@ -0,0 +1,109 @@
+package uk.gov.hmcts.reform.sscs.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+
+/**
+ * Writes a callback response as it would be written in full, except that every case data field that was not bound
+ * is copied from the tokens it arrived as, instead of whatever the partly bound case data holds for it. A field that
+ * was not bound but that the handler has set anyway is written as the handler set it.
+ */
+public class PartialCallbackResponse extends JsonSerializable.Base {
+
+    private static final String DATA = "data";
+
+    @Getter
+    private final PreSubmitCallbackResponse<SscsCaseData> response;
+    private final Map<String, TokenBuffer> untouched;
+    private final SscsCaseData unbound;
+
+    PartialCallbackResponse(PreSubmitCallbackResponse<SscsCaseData> response, Map<String, TokenBuffer> untouched,
+                            SscsCaseData unbound) {
+        this.response = response;
+        this.untouched = untouched;
+        this.unbound = unbound;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+        Iterator<PropertyWriter> properties = provider.findValueSerializer(response.getClass()).properties();
+        while (properties.hasNext()) {
+            PropertyWriter property = properties.next();
+            if (DATA.equals(property.getName()) && response.getData() != null) {
+                gen.writeFieldName(DATA);
+                writeData(response.getData(), gen, provider);
+            } else {
+                writeField(property, response, gen, provider);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        serialize(gen, provider);
+    }
+
+    // Merged by the fields the case data is written as, as a property can be written as several unwrapped fields
+    private void writeData(SscsCaseData data, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonNode fields = toTree(data, gen, provider);
+        JsonNode unboundFields = toTree(unbound, gen, provider);
+        gen.writeStartObject(data);
+        Set<String> written = new HashSet<>();
+        Iterator<Map.Entry<String, JsonNode>> entries = fields.fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> field = entries.next();
+            // A field that was not bound is written from the case data only when the handler has set it
+            if (!untouched.containsKey(field.getKey()) || !field.getValue().equals(unboundFields.get(field.getKey()))) {
+                gen.writeFieldName(field.getKey());
+                field.getValue().serialize(gen, provider);
+                written.add(field.getKey());
+            }
+        }
+        for (Map.Entry<String, TokenBuffer> field : untouched.entrySet()) {
+            if (!written.contains(field.getKey())) {
+                gen.writeFieldName(field.getKey());
+                field.getValue().serialize(gen);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private static JsonNode toTree(SscsCaseData data, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (gen.getCodec() == null) {
+            throw JsonMappingException.from(gen, "Writing a partial callback response needs a generator with a codec");
+        }
+        TokenBuffer buffer = new TokenBuffer(gen.getCodec(), false);
+        provider.defaultSerializeValue(data, buffer);
+        try (JsonParser parser = buffer.asParser()) {
+            return gen.getCodec().readTree(parser);
+        }
+    }
+
+    private static void writeField(PropertyWriter property, Object bean, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+        try {
+            property.serializeAsField(bean, gen, provider);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw JsonMappingException.wrapWithPath(e, bean, property.getName());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package uk.gov.hmcts.reform.sscs.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.exceptions.BulkScanJsonException;
+
+/**
+ * Parses a CCD callback straight from the request body with Jackson's streaming parser, so a large case, including
+ * its case details before and every document, is never held as a String as well as the parsed callback.
+ */
+public class SscsCaseCallbackReader {
+
+    private static final String CASE_DETAILS = "case_details";
+    private static final String CASE_DETAILS_BEFORE = "case_details_before";
+    private static final String CASE_DATA = "case_data";
+
+    private final ObjectReader reader;
+    private final Set<String> boundCaseDataFields;
+    // What partial binding leaves in a field it does not bind, never to be changed
+    private final SscsCaseData unbound;
+
+    /**
+     * Reads callbacks that, when bound partly, have only the given case data properties bound. A property whose
+     * fields are unwrapped into the case data binds each of those fields.
+     */
+    public SscsCaseCallbackReader(ObjectMapper mapper, Set<String> boundCaseDataProperties) {
+        this.reader = mapper.readerFor(new TypeReference<Callback<SscsCaseData>>() {});
+        this.boundCaseDataFields = jsonFields(mapper.getSerializationConfig(), SscsCaseData.class, boundCaseDataProperties);
+        try {
+            this.unbound = mapper.readerFor(SscsCaseData.class).readValue("{}");
+        } catch (IOException e) {
+            throw new BulkScanJsonException(e);
+        }
+    }
+
+    public Callback<SscsCaseData> read(InputStream body) {
+        try {
+            return reader.readValue(body);
+        } catch (IOException e) {
+            throw new BulkScanJsonException(e);
+        }
+    }
+
+    /**
+     * Binds only the fields of the bound case data properties. Every other case data field is kept as the tokens it
+     * arrived as, to be written back unchanged by {@link PartialCallback#respond}, and the case details
+     * before are skipped, as they are never used.
+     */
+    public PartialCallback readPartial(InputStream body) {
+        return readPartial(body, false);
+    }
+
+    /**
+     * As {@link #readPartial(InputStream)}, also binding the same fields of the case details before if asked to,
+     * for a record that is validated again by comparing it with them. Their other fields are skipped.
+     */
+    public PartialCallback readPartial(InputStream body, boolean withCaseDetailsBefore) {
+        try (JsonParser parser = reader.getFactory().createParser(body)) {
+            Map<String, TokenBuffer> untouched = new LinkedHashMap<>();
+            TokenBuffer bound = new TokenBuffer(parser);
+            copyObject(parser, bound, (name, p) -> {
+                if (CASE_DETAILS_BEFORE.equals(name)) {
+                    if (withCaseDetailsBefore && p.currentToken() == JsonToken.START_OBJECT) {
+                        bound.writeFieldName(name);
+                        copyCaseDetails(p, bound, (dataName, cp) -> bindCaseDataField(dataName, cp, bound));
+                    } else {
+                        p.skipChildren();
+                    }
+                } else if (CASE_DETAILS.equals(name) && p.currentToken() == JsonToken.START_OBJECT) {
+                    bound.writeFieldName(name);
+                    copyCaseDetails(p, bound, (dataName, cp) -> splitCaseDataField(dataName, cp, bound, untouched));
+                } else {
+                    bound.writeFieldName(name);
+                    bound.copyCurrentStructure(p);
+                }
+            });
+            return new PartialCallback(reader.readValue(bound.asParser()), untouched, unbound);
+        } catch (IOException e) {
+            throw new BulkScanJsonException(e);
+        }
+    }
+
+    Set<String> boundCaseDataFields() {
+        return boundCaseDataFields;
+    }
+
+    // The JSON fields of the given properties, failing on any the type does not have so that a renamed one is noticed
+    private static Set<String> jsonFields(SerializationConfig config, Class<?> type, Set<String> properties) {
+        Set<String> fields = new HashSet<>();
+        Set<String> missing = new HashSet<>(properties);
+        for (BeanPropertyDefinition property : config.introspect(config.constructType(type)).findProperties()) {
+            if (properties.contains(property.getInternalName()) || properties.contains(property.getName())) {
+                missing.remove(property.getInternalName());
+                missing.remove(property.getName());
+                fields.addAll(fields(config, property));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException(type.getSimpleName() + " has no properties " + missing);
+        }
+        return Set.copyOf(fields);
+    }
+
+    private static Set<String> fields(SerializationConfig config, BeanPropertyDefinition property) {
+        AnnotatedMember member = property.getPrimaryMember();
+        NameTransformer unwrapping = member == null ? null
+            : config.getAnnotationIntrospector().findUnwrappingNameTransformer(member);
+        if (unwrapping == null) {
+            return Set.of(property.getName());
+        }
+        Set<String> fields = new HashSet<>();
+        for (BeanPropertyDefinition field : config.introspect(config.constructType(property.getRawPrimaryType())).findProperties()) {
+            for (String name : fields(config, field)) {
+                fields.add(unwrapping.transform(name));
+            }
+        }
+        return fields;
+    }
+
+    private static void copyCaseDetails(JsonParser parser, TokenBuffer bound, FieldHandler caseDataFields) throws IOException {
+        copyObject(parser, bound, (detailsName, dp) -> {
+            bound.writeFieldName(detailsName);
+            if (CASE_DATA.equals(detailsName) && dp.currentToken() == JsonToken.START_OBJECT) {
+                copyObject(dp, bound, caseDataFields);
+            } else {
+                bound.copyCurrentStructure(dp);
+            }
+        });
+    }
+
+    private void bindCaseDataField(String name, JsonParser parser, TokenBuffer bound) throws IOException {
+        if (boundCaseDataFields.contains(name)) {
+            bound.writeFieldName(name);
+            bound.copyCurrentStructure(parser);
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private void splitCaseDataField(String name, JsonParser parser, TokenBuffer bound,
+                                    Map<String, TokenBuffer> untouched) throws IOException {
+        if (boundCaseDataFields.contains(name)) {
+            bound.writeFieldName(name);
+            bound.copyCurrentStructure(parser);
+        } else {
+            TokenBuffer raw = new TokenBuffer(parser);
+            raw.copyCurrentStructure(parser);
+            untouched.put(name, raw);
+        }
+    }
+
+    /**
+     * Copies the object starting at the parser's current token, or the next one if there is none yet, handing each
+     * field, with the parser on its value, to the given handler.
+     */
+    private static void copyObject(JsonParser parser, TokenBuffer out, FieldHandler fields) throws IOException {
+        JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object but found " + token);
+        }
+        out.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            fields.handle(name, parser);
+        }
+        out.writeEndObject();
+    }
+
+    @FunctionalInterface
+    private interface FieldHandler {
+        void handle(String name, JsonParser parser) throws IOException;
+    }
+}
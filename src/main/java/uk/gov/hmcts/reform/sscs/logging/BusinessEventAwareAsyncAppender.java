@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.sscs.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Hands log events to a background thread through a bounded queue. When the queue is close to full, INFO and lower
+ * events are dropped rather than blocking the request thread, except for {@link LogMarkers#BUSINESS_EVENT} events
+ * which are always kept, like WARN and ERROR.
+ */
+public class BusinessEventAwareAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return super.isDiscardable(event) && !LogMarkers.isBusinessEvent(event.getMarkerList());
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.sscs.logging;
+
+import java.util.List;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+public final class LogMarkers {
+
+    /**
+     * Marks log events that record a business outcome (a case created, matched or rejected as a duplicate). These
+     * are never sampled and never dropped by the async appender, whatever their level.
+     */
+    public static final Marker BUSINESS_EVENT = MarkerFactory.getMarker("BUSINESS_EVENT");
+
+    private LogMarkers() {
+    }
+
+    static boolean isBusinessEvent(Marker marker) {
+        return marker != null && (marker.equals(BUSINESS_EVENT) || marker.contains(BUSINESS_EVENT));
+    }
+
+    static boolean isBusinessEvent(List<Marker> markers) {
+        if (markers == null) {
+            return false;
+        }
+        for (Marker marker : markers) {
+            if (isBusinessEvent(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.sscs.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Marker;
+
+/**
+ * Keeps one in every N INFO and lower events for the configured logger categories and drops the rest before the
+ * message is formatted. Categories are configured as {@code logger.name.prefix=N} pairs separated by commas; the
+ * longest matching prefix wins. WARN and above, and events marked with {@link LogMarkers#BUSINESS_EVENT}, are
+ * never sampled.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Sampler UNSAMPLED = new Sampler(1);
+
+    private final Map<String, Integer> rates = new TreeMap<>();
+    private final ConcurrentMap<String, Sampler> samplers = new ConcurrentHashMap<>();
+
+    public void setCategories(String categories) {
+        for (String category : StringUtils.split(StringUtils.defaultString(categories), ',')) {
+            String[] nameAndRate = StringUtils.split(category, '=');
+            if (nameAndRate.length != 2) {
+                addWarn("Ignoring log sampling category '" + category + "', expected logger.name=rate");
+                continue;
+            }
+            try {
+                rates.put(nameAndRate[0].trim(), Math.max(1, Integer.parseInt(nameAndRate[1].trim())));
+            } catch (NumberFormatException e) {
+                addWarn("Ignoring log sampling category '" + category + "', rate is not a number");
+            }
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // A null format is an isXxxEnabled() check rather than an event, so it must not use up a sample
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN) || LogMarkers.isBusinessEvent(marker)
+            || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Sampler sampler = samplers.computeIfAbsent(logger.getName(), this::samplerFor);
+        return sampler.sample() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Sampler samplerFor(String loggerName) {
+        String match = null;
+        for (String category : rates.keySet()) {
+            if ((loggerName.equals(category) || loggerName.startsWith(category + "."))
+                && (match == null || category.length() > match.length())) {
+                match = category;
+            }
+        }
+        return match == null ? UNSAMPLED : new Sampler(rates.get(match));
+    }
+
+    private static final class Sampler {
+        private final int rate;
+        private final AtomicLong count = new AtomicLong();
+
+        private Sampler(int rate) {
+            this.rate = rate;
+        }
+
+        private boolean sample() {
+            return rate == 1 || count.getAndIncrement() % rate == 0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.sscs.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import uk.gov.hmcts.reform.sscs.warmup.PipelineWarmup;
+import uk.gov.hmcts.reform.sscs.warmup.WarmupContext;
+
+/**
+ * Drops the INFO and lower events the pipeline logs for the synthetic records run while {@link WarmupContext} is
+ * active, business events included, so they are not mistaken for real exception records. WARN and above, and the
+ * warmup's own events, are kept.
+ */
+public class WarmupTurboFilter extends TurboFilter {
+
+    private static final String WARMUP_LOGGER = PipelineWarmup.class.getName();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level.isGreaterOrEqual(Level.WARN) || WARMUP_LOGGER.equals(logger.getName())
+            || !WarmupContext.isActive()) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latency, concurrency and failures of outbound calls, published as {@value #DEPENDENCY_TIMER},
+ * {@value #DEPENDENCY_IN_FLIGHT} and {@value #DEPENDENCY_ERRORS}, each tagged by service and operation. Every call is
+ * also emitted as an {@link OutboundCallEvent} for JFR, attributed to the request in the {@link PipelineContext}.
+ */
+@Component
+public class DependencyMetrics {
+
+    public static final String DEPENDENCY_TIMER = "bulkscan.dependency";
+    public static final String DEPENDENCY_IN_FLIGHT = "bulkscan.dependency.in.flight";
+    public static final String DEPENDENCY_ERRORS = "bulkscan.dependency.errors";
+
+    private final MeterRegistry registry;
+    private final Map<OutboundDependency, AtomicInteger> inFlight = new EnumMap<>(OutboundDependency.class);
+
+    public DependencyMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (OutboundDependency dependency : OutboundDependency.values()) {
+            AtomicInteger count = new AtomicInteger();
+            inFlight.put(dependency, count);
+            Gauge.builder(DEPENDENCY_IN_FLIGHT, count, AtomicInteger::get)
+                .description("Outbound calls currently awaiting a response")
+                .tag("service", dependency.getService())
+                .tag("operation", dependency.getOperation())
+                .register(registry);
+        }
+    }
+
+    public DependencyCall start(OutboundDependency dependency) {
+        inFlight.get(dependency).incrementAndGet();
+        OutboundCallEvent event = new OutboundCallEvent();
+        event.begin();
+        return new DependencyCall(dependency, Timer.start(registry), event);
+    }
+
+    public class DependencyCall {
+
+        private final OutboundDependency dependency;
+        private final Timer.Sample sample;
+        private final OutboundCallEvent event;
+
+        private DependencyCall(OutboundDependency dependency, Timer.Sample sample, OutboundCallEvent event) {
+            this.dependency = dependency;
+            this.sample = sample;
+            this.event = event;
+        }
+
+        public long success() {
+            return finish("success");
+        }
+
+        public long failure(Throwable error) {
+            Counter.builder(DEPENDENCY_ERRORS)
+                .description("Outbound calls that failed with an exception")
+                .tag("service", dependency.getService())
+                .tag("operation", dependency.getOperation())
+                .tag("exception", error.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+            return finish("error");
+        }
+
+        private long finish(String outcome) {
+            inFlight.get(dependency).decrementAndGet();
+            event.end();
+            if (event.shouldCommit()) {
+                PipelineContext context = PipelineContext.current();
+                event.service = dependency.getService();
+                event.operation = dependency.getOperation();
+                event.handler = context.getHandlerTag();
+                event.exceptionRecordId = context.getExceptionRecordId();
+                event.formType = context.getFormType();
+                event.outcome = outcome;
+                event.commit();
+            }
+            long duration = sample.stop(Timer.builder(DEPENDENCY_TIMER)
+                .description("Time spent waiting on outbound calls")
+                .tag("service", dependency.getService())
+                .tag("operation", dependency.getOperation())
+                .tag("outcome", outcome)
+                .register(registry));
+            ServerTiming.record(dependency.getService() + "." + dependency.getOperation(), duration);
+            return duration;
+        }
+    }
+}
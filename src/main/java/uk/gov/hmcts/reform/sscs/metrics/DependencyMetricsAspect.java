@@ -0,0 +1,69 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.metrics.DependencyMetrics.DependencyCall;
+import uk.gov.hmcts.reform.sscs.warmup.WarmupContext;
+
+/**
+ * Wraps the outbound calls made during request processing with {@link DependencyMetrics}. Most of these live in
+ * shared libraries, so they are intercepted at the bean boundary rather than instrumented at the call site. Calls
+ * answered by stand-ins during warmup are not recorded.
+ */
+@Aspect
+@Component
+public class DependencyMetricsAspect {
+
+    private final DependencyMetrics dependencyMetrics;
+
+    public DependencyMetricsAspect(DependencyMetrics dependencyMetrics) {
+        this.dependencyMetrics = dependencyMetrics;
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.sscs.ccd.service.CcdService.findCaseBy(..))")
+    public Object ccdFindCaseBy(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(OutboundDependency.CCD_FIND_CASE_BY, joinPoint);
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.sscs.ccd.service.CcdService.findCcdCaseByNinoAndBenefitTypeAndMrnDate(..))")
+    public Object ccdFindDuplicateCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(OutboundDependency.CCD_FIND_DUPLICATE_CASE, joinPoint);
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.sscs.idam.IdamService.getIdamTokens(..))")
+    public Object idamTokens(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(OutboundDependency.IDAM_TOKENS, joinPoint);
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator+.getServiceName(..))")
+    public Object s2sServiceName(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(OutboundDependency.S2S_SERVICE_NAME, joinPoint);
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.sscs.validators.PostcodeValidator.isValid(..))")
+    public Object postcodeValidation(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(OutboundDependency.POSTCODE_VALIDATION, joinPoint);
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.sscs.service.RefDataService.getCourtVenueRefDataByEpimsId(..))")
+    public Object locationRefCourtVenue(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(OutboundDependency.LOCATION_REF_COURT_VENUE, joinPoint);
+    }
+
+    private Object record(OutboundDependency dependency, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (WarmupContext.isActive()) {
+            return joinPoint.proceed();
+        }
+        DependencyCall call = dependencyMetrics.start(dependency);
+        try {
+            Object result = joinPoint.proceed();
+            call.success();
+            return result;
+        } catch (Throwable e) {
+            call.failure(e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("uk.gov.hmcts.reform.sscs.OutboundCall")
+@Label("Bulk Scan Outbound Call")
+@Category({"Bulk Scan", "Dependencies"})
+@Description("A call to CCD, IDAM, S2S, postcode validation or location reference data")
+@StackTrace(false)
+class OutboundCallEvent extends jdk.jfr.Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Exception Record Id")
+    String exceptionRecordId;
+
+    @Label("Form Type")
+    String formType;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+/**
+ * The outbound calls made while processing a request, grouped by the downstream service they hit.
+ */
+public enum OutboundDependency {
+    CCD_FIND_CASE_BY("ccd", "findCaseBy"),
+    CCD_FIND_DUPLICATE_CASE("ccd", "findCcdCaseByNinoAndBenefitTypeAndMrnDate"),
+    IDAM_TOKENS("idam", "getIdamTokens"),
+    S2S_SERVICE_NAME("s2s", "getServiceName"),
+    POSTCODE_VALIDATION("postcode", "isValid"),
+    LOCATION_REF_COURT_VENUE("location-ref", "getCourtVenueRefDataByEpimsId");
+
+    private final String service;
+    private final String operation;
+
+    OutboundDependency(String service, String operation) {
+        this.service = service;
+        this.operation = operation;
+    }
+
+    public String getService() {
+        return service;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+}
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+/**
+ * Identifies the request being processed on the current thread, so that events raised deep in the pipeline (such
+ * as outbound calls) can be attributed to the exception record and form type that caused them.
+ */
+public final class PipelineContext {
+
+    private static final ThreadLocal<PipelineContext> CURRENT = new ThreadLocal<>();
+
+    private static final PipelineContext NONE = new PipelineContext(null, null, null);
+
+    private final PipelineHandler handler;
+    private final String exceptionRecordId;
+    private final String formType;
+
+    private PipelineContext(PipelineHandler handler, String exceptionRecordId, String formType) {
+        this.handler = handler;
+        this.exceptionRecordId = exceptionRecordId;
+        this.formType = formType;
+    }
+
+    public static PipelineContext current() {
+        PipelineContext context = CURRENT.get();
+        return context == null ? NONE : context;
+    }
+
+    static void open(PipelineHandler handler, String exceptionRecordId, String formType) {
+        CURRENT.set(new PipelineContext(handler, exceptionRecordId, formType));
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    PipelineHandler getHandler() {
+        return handler;
+    }
+
+    public String getHandlerTag() {
+        return handler == null ? null : handler.getTag();
+    }
+
+    public String getExceptionRecordId() {
+        return exceptionRecordId;
+    }
+
+    public String getFormType() {
+        return formType;
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+/**
+ * The entry points into the bulk scan pipeline, one per endpoint that drives it.
+ */
+public enum PipelineHandler {
+    TRANSFORM("transform"),
+    VALIDATE_OCR("validate-ocr"),
+    VALIDATE_RECORD("validate-record");
+
+    private final String tag;
+
+    PipelineHandler(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.CaseResponse;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+import uk.gov.hmcts.reform.sscs.warmup.WarmupContext;
+
+/**
+ * Per-stage timers for the bulk scan pipeline, published as {@value #PIPELINE_TIMER} and tagged by handler, stage,
+ * form type and outcome. Nothing is recorded for the synthetic records run while {@link WarmupContext} is active.
+ */
+@Component
+public class PipelineMetrics {
+
+    public static final String PIPELINE_TIMER = "bulkscan.pipeline";
+    public static final String COALESCED_COUNTER = "bulkscan.pipeline.coalesced";
+
+    private static final String UNKNOWN_FORM_TYPE = "unknown";
+
+    private final MeterRegistry registry;
+
+    public PipelineMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public StageTimer start(PipelineHandler handler, PipelineStage stage) {
+        return WarmupContext.isActive() ? StageTimer.notRecorded() : new StageTimer(registry, handler, stage);
+    }
+
+    /**
+     * Starts the {@link PipelineStage#TOTAL} timer for a request and records which exception record and form type
+     * the current thread is working on until that timer is stopped.
+     */
+    public StageTimer startRequest(PipelineHandler handler, String exceptionRecordId, String formType) {
+        if (WarmupContext.isActive()) {
+            return StageTimer.notRecorded();
+        }
+        PipelineContext.open(handler, exceptionRecordId, formTypeTag(formType));
+        return start(handler, PipelineStage.TOTAL);
+    }
+
+    public StageTimer startRequest(PipelineHandler handler, String exceptionRecordId, FormType formType) {
+        if (WarmupContext.isActive()) {
+            return StageTimer.notRecorded();
+        }
+        PipelineContext.open(handler, exceptionRecordId, formTypeTag(formType));
+        return start(handler, PipelineStage.TOTAL);
+    }
+
+    /**
+     * Starts a stage of the request open on the current thread, attributed to its handler and tagged with its form
+     * type. Outside a request there is nothing to attribute the stage to, so nothing is recorded.
+     */
+    public StageTimer startInRequest(PipelineStage stage) {
+        PipelineHandler handler = PipelineContext.current().getHandler();
+        return handler == null ? StageTimer.notRecorded() : start(handler, stage);
+    }
+
+    /**
+     * Times a stage of the request open on the current thread, see {@link #startInRequest(PipelineStage)}. A stage
+     * that throws is recorded with an {@link StageOutcome#ERRORS} outcome.
+     */
+    public <T> T timeInRequest(PipelineStage stage, Supplier<T> work) {
+        StageTimer timer = startInRequest(stage);
+        StageOutcome outcome = StageOutcome.ERRORS;
+        try {
+            T result = work.get();
+            outcome = StageOutcome.SUCCESS;
+            return result;
+        } finally {
+            timer.stop(outcome);
+        }
+    }
+
+    /**
+     * Times a stage that produces a {@link CaseResponse}, taking the outcome from its errors and warnings. A stage
+     * that throws is recorded with an {@link StageOutcome#ERRORS} outcome.
+     */
+    public CaseResponse time(PipelineHandler handler, PipelineStage stage, String formType, Supplier<CaseResponse> work) {
+        StageTimer timer = start(handler, stage);
+        StageOutcome outcome = StageOutcome.ERRORS;
+        try {
+            CaseResponse response = work.get();
+            outcome = StageOutcome.of(response);
+            return response;
+        } finally {
+            timer.stop(formType, outcome);
+        }
+    }
+
+    /**
+     * Counts a request that waited for an identical one already in flight instead of running the pipeline itself.
+     */
+    public void coalesced(PipelineHandler handler) {
+        if (WarmupContext.isActive()) {
+            return;
+        }
+        registry.counter(COALESCED_COUNTER, "handler", handler.getTag()).increment();
+    }
+
+    static String formTypeTag(String formType) {
+        if (formType == null) {
+            return UNKNOWN_FORM_TYPE;
+        }
+        // Bound the tag cardinality to the known form types, the raw value comes from the request
+        return formTypeTag(FormType.getById(formType));
+    }
+
+    static String formTypeTag(FormType formType) {
+        return formType == null || FormType.UNKNOWN.equals(formType) ? UNKNOWN_FORM_TYPE : formType.name();
+    }
+}
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("uk.gov.hmcts.reform.sscs.PipelineRequest")
+@Label("Bulk Scan Request")
+@Category({"Bulk Scan", "Pipeline"})
+@Description("A transform, validate-ocr or validate-record request, from entering the handler to its response")
+@StackTrace(false)
+class PipelineRequestEvent extends jdk.jfr.Event {
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Exception Record Id")
+    String exceptionRecordId;
+
+    @Label("Form Type")
+    String formType;
+
+    @Label("Outcome")
+    String outcome;
+}
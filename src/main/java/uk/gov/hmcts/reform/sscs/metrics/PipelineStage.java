@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+/**
+ * The timed stages of the bulk scan pipeline. {@link #TOTAL} covers the whole handler call, and the steps from
+ * {@link #SCHEMA_VALIDATION} on are timed within the coarser stages, so their durations overlap.
+ */
+public enum PipelineStage {
+    TOTAL("total"),
+    TRANSFORM("transform"),
+    VALIDATE("validate"),
+    CASE_EVENT("case-event"),
+    UNSAVED_FIELDS("unsaved-fields"),
+    DATA_MAPPING("data-mapping"),
+    MATCH_CASES("match-cases"),
+    SCHEMA_VALIDATION("schema-validation"),
+    OCR_EXTRACTION("ocr-extraction"),
+    APPEAL_BUILD("appeal-build"),
+    BENEFIT_MATCH("benefit-match"),
+    VENUE_LOOKUP("venue-lookup"),
+    DUPLICATE_CHECK("duplicate-check"),
+    FIND_EVENT("find-event");
+
+    private final String tag;
+
+    PipelineStage(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("uk.gov.hmcts.reform.sscs.PipelineStage")
+@Label("Bulk Scan Pipeline Stage")
+@Category({"Bulk Scan", "Pipeline"})
+@Description("One stage of a bulk scan request, such as transformation or validation")
+@StackTrace(false)
+class PipelineStageEvent extends jdk.jfr.Event {
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Exception Record Id")
+    String exceptionRecordId;
+
+    @Label("Form Type")
+    String formType;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the stage and outbound call durations of the request on the current thread for the
+ * {@value #HEADER} response header. Recording only happens between {@link #begin()} and {@link #end()}, so
+ * requests that have not opted in pay a single thread-local lookup per stage.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    private ServerTiming() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new ServerTiming());
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void record(String name, long durationNanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.entries.computeIfAbsent(name, key -> new Entry()).add(durationNanos);
+        }
+    }
+
+    /**
+     * Formats the recorded entries, plus the time since {@link #begin()} as {@code app}. Repeated entries, such as
+     * several postcode lookups, are summed and their count given as the description.
+     */
+    public String headerValue() {
+        StringBuilder header = new StringBuilder();
+        entries.forEach((name, entry) -> {
+            header.append(name);
+            if (entry.count > 1) {
+                header.append(";desc=\"").append(entry.count).append(" calls\"");
+            }
+            header.append(";dur=").append(millis(entry.totalNanos)).append(", ");
+        });
+        return header.append("app;dur=").append(millis(System.nanoTime() - startNanos)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static final class Entry {
+        private long totalNanos;
+        private int count;
+
+        private void add(long durationNanos) {
+            totalNanos += durationNanos;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import static org.springframework.util.CollectionUtils.isEmpty;
+
+import java.util.List;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.CaseResponse;
+
+public enum StageOutcome {
+    SUCCESS("success"),
+    WARNINGS("warnings"),
+    ERRORS("errors");
+
+    private final String tag;
+
+    StageOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public static StageOutcome of(CaseResponse caseResponse) {
+        return caseResponse == null ? SUCCESS : of(caseResponse.getErrors(), caseResponse.getWarnings());
+    }
+
+    public static StageOutcome of(List<String> errors, List<String> warnings) {
+        if (!isEmpty(errors)) {
+            return ERRORS;
+        }
+        return isEmpty(warnings) ? SUCCESS : WARNINGS;
+    }
+}
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+
+/**
+ * A started measurement of one pipeline stage. The form type and outcome are only known once the stage has run,
+ * so they are supplied when the timer is stopped. Each stage is also emitted as a JFR event, which costs next to
+ * nothing unless a recording with the bulk scan events enabled is running.
+ */
+public class StageTimer {
+
+    private static final StageTimer NOT_RECORDED = new StageTimer(null, null, null, null, null);
+
+    private final MeterRegistry registry;
+    private final PipelineHandler handler;
+    private final PipelineStage stage;
+    private final Timer.Sample sample;
+    private final jdk.jfr.Event event;
+
+    StageTimer(MeterRegistry registry, PipelineHandler handler, PipelineStage stage) {
+        this.registry = registry;
+        this.handler = handler;
+        this.stage = stage;
+        this.event = stage == PipelineStage.TOTAL ? new PipelineRequestEvent() : new PipelineStageEvent();
+        this.event.begin();
+        this.sample = Timer.start(registry);
+    }
+
+    private StageTimer(MeterRegistry registry, PipelineHandler handler, PipelineStage stage, Timer.Sample sample,
+                       jdk.jfr.Event event) {
+        this.registry = registry;
+        this.handler = handler;
+        this.stage = stage;
+        this.sample = sample;
+        this.event = event;
+    }
+
+    static StageTimer notRecorded() {
+        return NOT_RECORDED;
+    }
+
+    /**
+     * Stops a stage timed within a request, tagged with the form type the request was opened with.
+     */
+    public long stop(StageOutcome outcome) {
+        String formTypeTag = PipelineContext.current().getFormType();
+        return record(formTypeTag == null ? PipelineMetrics.formTypeTag((FormType) null) : formTypeTag, outcome);
+    }
+
+    public long stop(String formType, StageOutcome outcome) {
+        return record(PipelineMetrics.formTypeTag(formType), outcome);
+    }
+
+    public long stop(FormType formType, StageOutcome outcome) {
+        return record(PipelineMetrics.formTypeTag(formType), outcome);
+    }
+
+    private long record(String formTypeTag, StageOutcome outcome) {
+        if (sample == null) {
+            return 0;
+        }
+        long duration = sample.stop(Timer.builder(PipelineMetrics.PIPELINE_TIMER)
+            .description("Time spent in each stage of the bulk scan pipeline")
+            .tag("handler", handler.getTag())
+            .tag("stage", stage.getTag())
+            .tag("form_type", formTypeTag)
+            .tag("outcome", outcome.getTag())
+            .register(registry));
+        commitEvent(formTypeTag, outcome);
+        ServerTiming.record(stage.getTag(), duration);
+        if (stage == PipelineStage.TOTAL) {
+            PipelineContext.close();
+        }
+        return duration;
+    }
+
+    private void commitEvent(String formTypeTag, StageOutcome outcome) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        String exceptionRecordId = PipelineContext.current().getExceptionRecordId();
+        if (event instanceof PipelineRequestEvent requestEvent) {
+            requestEvent.handler = handler.getTag();
+            requestEvent.exceptionRecordId = exceptionRecordId;
+            requestEvent.formType = formTypeTag;
+            requestEvent.outcome = outcome.getTag();
+        } else if (event instanceof PipelineStageEvent stageEvent) {
+            stageEvent.handler = handler.getTag();
+            stageEvent.stage = stage.getTag();
+            stageEvent.exceptionRecordId = exceptionRecordId;
+            stageEvent.formType = formTypeTag;
+            stageEvent.outcome = outcome.getTag();
+        }
+        event.commit();
+    }
+}
@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import static java.util.Comparator.comparing;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs where boot time went once the application is ready. When the application was started with a
+ * {@link BufferingApplicationStartup}, as {@code BulkScanApplication.main} does, the recorded startup steps are
+ * ranked by their own time, that is their duration less the duration of the steps nested in them, so a slow bean is
+ * not hidden behind the beans that depend on it. The full timeline is also served by the {@code startup} actuator
+ * endpoint.
+ */
+@Slf4j
+@Component
+public class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final ApplicationStartup applicationStartup;
+    private final int topSteps;
+
+    @Getter
+    private volatile Duration timeTaken;
+    @Getter
+    private volatile List<Step> slowestSteps = List.of();
+
+    public StartupReport(ApplicationStartup applicationStartup,
+                         @Value("${startup.report.top-steps:20}") int topSteps) {
+        this.applicationStartup = applicationStartup;
+        this.topSteps = topSteps;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        timeTaken = event.getTimeTaken();
+        if (applicationStartup instanceof BufferingApplicationStartup buffering) {
+            slowestSteps = slowest(buffering.getBufferedTimeline().getEvents(), topSteps);
+        }
+        log.info("Application ready in {} ms{}", timeTaken == null ? -1 : timeTaken.toMillis(), describe());
+    }
+
+    /**
+     * The slowest steps, one per line, or nothing when no steps were recorded.
+     */
+    public String describe() {
+        return slowestSteps.stream()
+            .map(step -> String.format("%n  %6d ms  %s %s", step.selfTime().toMillis(), step.name(), step.tags()))
+            .collect(Collectors.joining());
+    }
+
+    static List<Step> slowest(List<TimelineEvent> events, int limit) {
+        Map<Long, Duration> nestedTime = new HashMap<>();
+        for (TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nestedTime.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+        return events.stream()
+            .map(event -> new Step(event.getStartupStep().getName(), tags(event.getStartupStep()),
+                event.getDuration().minus(nestedTime.getOrDefault(event.getStartupStep().getId(), Duration.ZERO))))
+            .sorted(comparing(Step::selfTime).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    private static Map<String, String> tags(StartupStep step) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        step.getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+        return tags;
+    }
+
+    public record Step(String name, Map<String, String> tags, Duration selfTime) {
+    }
+}
@@ -8,20 +8,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.sscs.ccd.domain.CaseManagementLocation;
 import uk.gov.hmcts.reform.sscs.ccd.domain.RegionalProcessingCenter;
-import uk.gov.hmcts.reform.sscs.model.CourtVenue;
 
 @Service
 public class CaseManagementLocationService {
 
-    private final RefDataService refDataService;
+    private final LocationRefDataSnapshot locationRefDataSnapshot;
     private final boolean caseAccessManagementFeature;
-    private final VenueService venueService;
 
-    public CaseManagementLocationService(RefDataService refDataService,
-                                         VenueService venueService,
+    public CaseManagementLocationService(LocationRefDataSnapshot locationRefDataSnapshot,
                                          @Value("${feature.case-access-management.enabled}") boolean caseAccessManagementFeature) {
-        this.refDataService = refDataService;
-        this.venueService = venueService;
+        this.locationRefDataSnapshot = locationRefDataSnapshot;
         this.caseAccessManagementFeature = caseAccessManagementFeature;
     }
 
@@ -31,14 +27,13 @@ public class CaseManagementLocationService {
             && isNotBlank(processingVenue)
             && nonNull(regionalProcessingCenter)) {
 
-            String venueEpimsId = venueService.getEpimsIdForVenue(processingVenue);
-            CourtVenue courtVenue = refDataService.getCourtVenueRefDataByEpimsId(venueEpimsId);
+            Optional<String> regionId = locationRefDataSnapshot.getRegionIdForVenue(processingVenue);
 
-            if (nonNull(courtVenue)
-                && isNotBlank(courtVenue.getRegionId())) {
+            if (regionId.isPresent()
+                && isNotBlank(regionId.get())) {
                 return Optional.of(CaseManagementLocation.builder()
                     .baseLocation(regionalProcessingCenter.getEpimsId())
-                    .region(courtVenue.getRegionId())
+                    .region(regionId.get())
                     .build());
             }
         }
@@ -0,0 +1,218 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.sscs.warmup.WarmupContext;
+
+/**
+ * Shadow evaluation of a local Bloom filter of the (NINO, benefit code, MRN date) of existing cases, to measure how
+ * well it would stand in for the CCD duplicate search. Nothing is decided by it: the CCD search always runs, and its
+ * result is compared with the filter. The filter is built from a bulk export of existing cases, rebuilt on a schedule
+ * and added to whenever a transformation on this instance succeeds.
+ *
+ * <p>The search is deliberately never skipped on a negative, as a negative only means the case was neither in the
+ * export nor created by this instance, and a case created on another instance or through another channel since the
+ * export was taken would be missed. A duplicate the search finds that the filter did not contain is counted as
+ * {@code missed}, which is what would have to stay at zero before a skip could be considered.
+ */
+@Slf4j
+@Service
+public class DuplicateCaseIndexShadow {
+
+    private static final String METRIC_PREFIX = "bulkscan.duplicate.index.shadow";
+    private static final char SEPARATOR = '|';
+
+    private final boolean enabled;
+    private final String exportFile;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    // Cases added since the export was taken, replayed into each rebuild until the export should have caught up
+    private final Cache<String, Boolean> recentlyAdded;
+
+    private final Timer rebuildTimer;
+    private final Counter definitelyNew;
+    private final Counter possibleMatch;
+    private final Counter falsePositive;
+    private final Counter missed;
+
+    private volatile Snapshot snapshot;
+
+    public DuplicateCaseIndexShadow(@Value("${duplicate-case-index-shadow.enabled:false}") boolean enabled,
+                                    @Value("${duplicate-case-index-shadow.export-file:}") String exportFile,
+                                    @Value("${duplicate-case-index-shadow.expected-insertions:2000000}") long expectedInsertions,
+                                    @Value("${duplicate-case-index-shadow.false-positive-rate:0.01}") double falsePositiveRate,
+                                    @Value("${duplicate-case-index-shadow.recent-retention:P2D}") Duration recentRetention,
+                                    MeterRegistry registry) {
+        this.enabled = enabled && !isBlank(exportFile);
+        this.exportFile = exportFile;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.recentlyAdded = CacheBuilder.newBuilder().expireAfterWrite(recentRetention).build();
+
+        this.rebuildTimer = Timer.builder(METRIC_PREFIX + ".rebuild").register(registry);
+        this.definitelyNew = lookups(registry, "definitely_new");
+        this.possibleMatch = lookups(registry, "possible_match");
+        this.falsePositive = lookups(registry, "false_positive");
+        this.missed = lookups(registry, "missed");
+        Gauge.builder(METRIC_PREFIX + ".entries", this, index -> index.current(Snapshot::entries)).register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, index -> index.current(Snapshot::sizeBytes))
+            .baseUnit("bytes").register(registry);
+        Gauge.builder(METRIC_PREFIX + ".expected.fpp", this, index -> index.current(Snapshot::expectedFpp)).register(registry);
+    }
+
+    public static DuplicateCaseIndexShadow disabled() {
+        return new DuplicateCaseIndexShadow(false, "", 1, 0.01, Duration.ZERO, new SimpleMeterRegistry());
+    }
+
+    // False when neither the export nor this instance has seen a case with these details
+    boolean mightContain(String nino, String benefitCode, String mrnDate) {
+        Snapshot current = snapshot;
+        return current == null || current.filter.mightContain(key(nino, benefitCode, mrnDate));
+    }
+
+    /**
+     * Compares the filter with the result of the CCD search for the same details, so its false positive rate can be
+     * compared with the expected one and duplicates it would have missed are counted.
+     */
+    public void recordSearchResult(String nino, String benefitCode, String mrnDate, boolean duplicateFound) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        if (current.filter.mightContain(key(nino, benefitCode, mrnDate))) {
+            possibleMatch.increment();
+            if (!duplicateFound) {
+                falsePositive.increment();
+            }
+        } else {
+            definitelyNew.increment();
+            if (duplicateFound) {
+                missed.increment();
+            }
+        }
+    }
+
+    public void add(String nino, String benefitCode, String mrnDate) {
+        if (!enabled || WarmupContext.isActive()) {
+            return;
+        }
+        String key = key(nino, benefitCode, mrnDate);
+        // Record first, so a rebuild swapping in a new filter after this point still replays it
+        recentlyAdded.put(key, Boolean.TRUE);
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.filter.put(key);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${duplicate-case-index-shadow.initial-delay:PT0S}",
+        fixedDelayString = "${duplicate-case-index-shadow.rebuild-interval:PT6H}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            BloomFilter<CharSequence> filter = BloomFilter.create(Funnels.stringFunnel(UTF_8), expectedInsertions, falsePositiveRate);
+            long entries = load(filter);
+            recentlyAdded.asMap().keySet().forEach(filter::put);
+            snapshot = new Snapshot(filter, entries, sizeOf(filter));
+            // Again for anything added to the old filter while this one was being swapped in
+            recentlyAdded.asMap().keySet().forEach(filter::put);
+
+            long elapsed = System.nanoTime() - start;
+            rebuildTimer.record(Duration.ofNanos(elapsed));
+            log.info("Duplicate case index shadow rebuilt from {} with {} entries, {} bytes, expected false positive rate {} in {} ms",
+                exportFile, entries, snapshot.sizeBytes(), filter.expectedFpp(), Duration.ofNanos(elapsed).toMillis());
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not rebuild duplicate case index shadow from {}, keeping the previous index", exportFile, e);
+        }
+    }
+
+    boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Reads one {@code nino|benefitCode|mrnDate} record per line, skipping blank lines, comments and anything
+     * malformed.
+     */
+    private long load(BloomFilter<CharSequence> filter) throws IOException {
+        long entries = 0;
+        long skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(exportFile), UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (isBlank(line) || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\\|", -1);
+                if (fields.length != 3 || isBlank(fields[0]) || isBlank(fields[1]) || isBlank(fields[2])) {
+                    skipped++;
+                    continue;
+                }
+                filter.put(key(fields[0], fields[1], fields[2]));
+                entries++;
+            }
+        }
+        if (skipped > 0) {
+            log.warn("Skipped {} malformed lines in duplicate case export {}", skipped, exportFile);
+        }
+        return entries;
+    }
+
+    private double current(ToDoubleFunction<Snapshot> value) {
+        Snapshot current = snapshot;
+        return current == null ? 0 : value.applyAsDouble(current);
+    }
+
+    private static Counter lookups(MeterRegistry registry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".lookups").tag("result", result).register(registry);
+    }
+
+    private static long sizeOf(BloomFilter<CharSequence> filter) throws IOException {
+        CountingOutputStream out = new CountingOutputStream(ByteStreams.nullOutputStream());
+        filter.writeTo(out);
+        return out.getCount();
+    }
+
+    // Normalising only ever merges keys, which can add false positives but never hide a duplicate
+    static String key(String nino, String benefitCode, String mrnDate) {
+        return normalise(nino) + SEPARATOR + normalise(benefitCode) + SEPARATOR + normalise(mrnDate);
+    }
+
+    private static String normalise(String value) {
+        return value == null ? "" : value.replaceAll("\\s", "").toUpperCase(Locale.UK);
+    }
+
+    private record Snapshot(BloomFilter<CharSequence> filter, long entries, long sizeBytes) {
+
+        double expectedFpp() {
+            return filter.expectedFpp();
+        }
+    }
+}
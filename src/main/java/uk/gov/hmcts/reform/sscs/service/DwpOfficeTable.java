@@ -0,0 +1,123 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Benefit;
+import uk.gov.hmcts.reform.sscs.model.dwp.OfficeMapping;
+
+/**
+ * Immutable lookup table in front of {@link DwpAddressLookupService}, indexed by {@link Benefit} ordinal and
+ * normalised office name. It is built once from the service's office mappings, with the default office, mapping and
+ * regional centre of every office resolved up front, so a lookup is a single probe. An office is keyed by its code
+ * and CCD name, trimmed and upper-cased, and a key is only kept when the service resolves it that way whatever its
+ * case and surrounding spaces, so the table never matches an office the service would not. Anything else, such as
+ * free text from the form, is passed straight to the service and nothing is added to the table.
+ */
+@Component
+public class DwpOfficeTable {
+
+    private final DwpAddressLookupService dwpAddressLookupService;
+    private final boolean enabled;
+    private final List<Optional<OfficeMapping>> defaults;
+    private final List<Map<String, OfficeEntry>> offices;
+
+    @Autowired
+    public DwpOfficeTable(DwpAddressLookupService dwpAddressLookupService) {
+        this(dwpAddressLookupService, true);
+    }
+
+    private DwpOfficeTable(DwpAddressLookupService dwpAddressLookupService, boolean enabled) {
+        this.dwpAddressLookupService = dwpAddressLookupService;
+        this.enabled = enabled;
+        List<Optional<OfficeMapping>> benefitDefaults = new ArrayList<>();
+        List<Map<String, OfficeEntry>> benefitOffices = new ArrayList<>();
+        if (enabled) {
+            for (Benefit benefit : Benefit.values()) {
+                benefitDefaults.add(dwpAddressLookupService.getDefaultDwpMappingByBenefitType(benefit.getShortName()));
+                benefitOffices.add(Map.copyOf(officesOf(benefit)));
+            }
+        }
+        this.defaults = List.copyOf(benefitDefaults);
+        this.offices = List.copyOf(benefitOffices);
+    }
+
+    /**
+     * A table that always asks the service, for callers that stub the service per call.
+     */
+    public static DwpOfficeTable passThrough(DwpAddressLookupService dwpAddressLookupService) {
+        return new DwpOfficeTable(dwpAddressLookupService, false);
+    }
+
+    public Optional<OfficeMapping> getDefaultDwpMappingByBenefitType(String benefitCode) {
+        return benefit(benefitCode)
+            .map(benefit -> defaults.get(benefit.ordinal()))
+            .orElseGet(() -> dwpAddressLookupService.getDefaultDwpMappingByBenefitType(benefitCode));
+    }
+
+    public Optional<OfficeMapping> getDwpMappingByOffice(String benefitCode, String dwpIssuingOffice) {
+        OfficeEntry entry = entry(benefitCode, dwpIssuingOffice);
+        return entry != null ? Optional.of(entry.mapping())
+            : dwpAddressLookupService.getDwpMappingByOffice(benefitCode, dwpIssuingOffice);
+    }
+
+    public String getDwpRegionalCenterByBenefitTypeAndOffice(String benefitCode, String dwpIssuingOffice) {
+        OfficeEntry entry = entry(benefitCode, dwpIssuingOffice);
+        return entry != null ? entry.regionalCentre()
+            : dwpAddressLookupService.getDwpRegionalCenterByBenefitTypeAndOffice(benefitCode, dwpIssuingOffice);
+    }
+
+    private Map<String, OfficeEntry> officesOf(Benefit benefit) {
+        Map<String, OfficeEntry> benefitOffices = new HashMap<>();
+        OfficeMapping[] mappings = dwpAddressLookupService.getDwpOfficeMappings(benefit.getShortName());
+        for (OfficeMapping mapping : mappings == null ? new OfficeMapping[0] : mappings) {
+            for (String office : new String[] {mapping.getCode(), mapping.getMapping().getCcd()}) {
+                if (office != null && resolvesRegardlessOfCaseAndSpaces(benefit, office, mapping)) {
+                    benefitOffices.putIfAbsent(normalise(office), new OfficeEntry(mapping,
+                        dwpAddressLookupService.getDwpRegionalCenterByBenefitTypeAndOffice(benefit.getShortName(), office)));
+                }
+            }
+        }
+        return benefitOffices;
+    }
+
+    private boolean resolvesRegardlessOfCaseAndSpaces(Benefit benefit, String office, OfficeMapping mapping) {
+        for (String spelling : List.of(office, office.toUpperCase(Locale.UK), office.toLowerCase(Locale.UK), " " + office + " ")) {
+            Optional<OfficeMapping> resolved = dwpAddressLookupService.getDwpMappingByOffice(benefit.getShortName(), spelling);
+            if (resolved.isEmpty() || !Objects.equals(resolved.get(), mapping)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private OfficeEntry entry(String benefitCode, String dwpIssuingOffice) {
+        if (dwpIssuingOffice == null) {
+            return null;
+        }
+        return benefit(benefitCode)
+            .map(benefit -> offices.get(benefit.ordinal()).get(normalise(dwpIssuingOffice)))
+            .orElse(null);
+    }
+
+    private Optional<Benefit> benefit(String benefitCode) {
+        if (!enabled || benefitCode == null) {
+            return Optional.empty();
+        }
+        // Only exact codes use the table, so the service still decides how anything else is matched
+        return Benefit.getBenefitOptionalByCode(benefitCode).filter(benefit -> benefit.getShortName().equals(benefitCode));
+    }
+
+    private static String normalise(String dwpIssuingOffice) {
+        return dwpIssuingOffice.trim().toUpperCase(Locale.UK);
+    }
+
+    private record OfficeEntry(OfficeMapping mapping, String regionalCentre) {
+    }
+}
@@ -1,8 +1,8 @@
 package uk.gov.hmcts.reform.sscs.service;
 
-import static java.lang.String.format;
 import static java.util.Arrays.stream;
 import static java.util.Optional.empty;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 import static org.apache.commons.lang3.ArrayUtils.contains;
 import static org.apache.commons.lang3.RegExUtils.replaceAll;
@@ -156,7 +156,7 @@ public class FuzzyMatcherService {
     }
 
     private String getBenefitNames(List<Benefit> benefits) {
-        return benefits.stream().map(Benefit::getShortName).reduce("", (a, b) -> format("%s, %s", a, b));
+        return benefits.stream().map(Benefit::getShortName).collect(joining(", "));
     }
 
     private Optional<Benefit> benefitByFuzzySearch(String caseId, String code) {
@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static java.util.Objects.nonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.sscs.model.CourtVenue;
+import uk.gov.hmcts.reform.sscs.warmup.WarmupContext;
+
+/**
+ * In-memory copy of the processing venue to EPIMS id to region mappings from the venue data and the location ref
+ * data API. The snapshot is loaded with every processing venue in the air lookup data, or only the configured
+ * ones, picks up any other venue the first time it is asked for, and is refreshed on a schedule by building a new
+ * map and swapping it in. A venue that cannot be refreshed keeps its previous mapping, so a location ref data outage
+ * serves stale data rather than failing requests. A venue that resolved to no region is only trusted for the short
+ * {@code negative-ttl}, so a lookup that failed is retried soon rather than at the next refresh.
+ */
+@Slf4j
+@Service
+public class LocationRefDataSnapshot {
+
+    private final RefDataService refDataService;
+    private final VenueService venueService;
+    private final AirLookupService airLookupService;
+    private final boolean enabled;
+    private final Set<String> preloadVenues;
+    private final long negativeTtlNanos;
+    private final AtomicReference<Map<String, VenueLocation>> locations = new AtomicReference<>(Map.of());
+
+    public LocationRefDataSnapshot(RefDataService refDataService,
+                                   VenueService venueService,
+                                   AirLookupService airLookupService,
+                                   @Value("${location_ref.snapshot.enabled:true}") boolean enabled,
+                                   @Value("${location_ref.snapshot.preload-venues:}") String[] preloadVenues,
+                                   @Value("${location_ref.snapshot.negative-ttl:PT1M}") Duration negativeTtl) {
+        this.refDataService = refDataService;
+        this.venueService = venueService;
+        this.airLookupService = airLookupService;
+        this.enabled = enabled;
+        this.preloadVenues = new LinkedHashSet<>(Arrays.asList(preloadVenues));
+        this.preloadVenues.removeIf(StringUtils::isBlank);
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    public Optional<String> getRegionIdForVenue(String processingVenue) {
+        if (!enabled) {
+            return Optional.ofNullable(load(processingVenue).regionId());
+        }
+        VenueLocation location = locations.get().get(processingVenue);
+        if (location == null || location.isStale(negativeTtlNanos)) {
+            VenueLocation loaded = load(processingVenue);
+            // Warmup answers ref data with stand-ins, which must not be kept
+            if (!WarmupContext.isActive()) {
+                locations.updateAndGet(current -> with(current, Map.of(processingVenue, loaded)));
+            }
+            location = loaded;
+        }
+        return Optional.ofNullable(location.regionId());
+    }
+
+    @Scheduled(initialDelayString = "${location_ref.snapshot.initial-delay:PT0S}",
+        fixedDelayString = "${location_ref.snapshot.refresh-interval:PT1H}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        Map<String, VenueLocation> previous = locations.get();
+        Set<String> venues = new LinkedHashSet<>(preloadVenues.isEmpty()
+            ? airLookupService.getLookupVenueIdByAirVenueName().keySet() : preloadVenues);
+        venues.addAll(previous.keySet());
+
+        Map<String, VenueLocation> refreshed = new HashMap<>();
+        int failed = 0;
+        for (String venue : venues) {
+            try {
+                VenueLocation loaded = load(venue);
+                VenueLocation kept = previous.get(venue);
+                // No region where there was one is more likely a lookup that failed than a venue that has gone
+                refreshed.put(venue, loaded.regionId() == null && kept != null && kept.regionId() != null ? kept : loaded);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Could not refresh location ref data for venue {}, keeping the previous mapping", venue, e);
+            }
+        }
+        locations.updateAndGet(current -> with(current, refreshed));
+
+        log.info("Refreshed location ref data for {} venues, {} failed, in {} ms",
+            refreshed.size(), failed, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    int size() {
+        return locations.get().size();
+    }
+
+    private VenueLocation load(String processingVenue) {
+        String venueEpimsId = venueService.getEpimsIdForVenue(processingVenue);
+        if (venueEpimsId == null) {
+            return new VenueLocation(null, null, System.nanoTime());
+        }
+        CourtVenue courtVenue = refDataService.getCourtVenueRefDataByEpimsId(venueEpimsId);
+        return new VenueLocation(venueEpimsId, nonNull(courtVenue) ? courtVenue.getRegionId() : null, System.nanoTime());
+    }
+
+    private static Map<String, VenueLocation> with(Map<String, VenueLocation> current, Map<String, VenueLocation> updates) {
+        Map<String, VenueLocation> merged = new HashMap<>(current);
+        merged.putAll(updates);
+        return Map.copyOf(merged);
+    }
+
+    private record VenueLocation(String epimsId, String regionId, long loadedAtNanos) {
+
+        boolean isStale(long negativeTtlNanos) {
+            return regionId == null && System.nanoTime() - loadedAtNanos >= negativeTtlNanos;
+        }
+    }
+}
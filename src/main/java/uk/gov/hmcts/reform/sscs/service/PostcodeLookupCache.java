@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.sscs.ccd.domain.BenefitType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.RegionalProcessingCenter;
+import uk.gov.hmcts.reform.sscs.warmup.WarmupContext;
+
+/**
+ * Remembers the regional processing centre and AIR venue worked out for a postcode or port of entry, so the
+ * transformation and the validation of the same record, and later records from the same postcode, share one
+ * lookup. Results are keyed by exactly what was asked for, as the prefix rules that map a postcode to its centre
+ * and venue belong to the lookup services.
+ */
+@Service
+public class PostcodeLookupCache {
+
+    private final RegionalProcessingCenterService regionalProcessingCenterService;
+    private final AirLookupService airLookupService;
+    // Optional, as a postcode with no centre or venue is worth remembering too
+    private final Cache<RpcKey, Optional<RegionalProcessingCenter>> rpcs;
+    private final Cache<VenueKey, Optional<String>> venues;
+
+    public PostcodeLookupCache(RegionalProcessingCenterService regionalProcessingCenterService,
+                               AirLookupService airLookupService,
+                               @Value("${postcode-lookup.cache.enabled:true}") boolean enabled,
+                               @Value("${postcode-lookup.cache.max-size:50000}") long maxSize) {
+        this.regionalProcessingCenterService = regionalProcessingCenterService;
+        this.airLookupService = airLookupService;
+        this.rpcs = enabled ? CacheBuilder.newBuilder().maximumSize(maxSize).build() : null;
+        this.venues = enabled ? CacheBuilder.newBuilder().maximumSize(maxSize).build() : null;
+    }
+
+    public static PostcodeLookupCache disabled(RegionalProcessingCenterService regionalProcessingCenterService,
+                                               AirLookupService airLookupService) {
+        return new PostcodeLookupCache(regionalProcessingCenterService, airLookupService, false, 0);
+    }
+
+    public RegionalProcessingCenter getRpcByPostcode(String postCodeOrPort, boolean isIbcOrSscs8) {
+        if (rpcs == null || postCodeOrPort == null) {
+            return regionalProcessingCenterService.getByPostcode(postCodeOrPort, isIbcOrSscs8);
+        }
+        return get(rpcs, new RpcKey(postCodeOrPort, isIbcOrSscs8),
+            () -> regionalProcessingCenterService.getByPostcode(postCodeOrPort, isIbcOrSscs8));
+    }
+
+    public String getAirVenueNameByPostcode(String postcode, BenefitType benefitType) {
+        if (venues == null || postcode == null) {
+            return airLookupService.lookupAirVenueNameByPostCode(postcode, benefitType);
+        }
+        return get(venues, new VenueKey(postcode, benefitType.getCode(), benefitType.getDescription()),
+            () -> airLookupService.lookupAirVenueNameByPostCode(postcode, benefitType));
+    }
+
+    private static <K, V> V get(Cache<K, Optional<V>> cache, K key, Supplier<V> lookup) {
+        Optional<V> result = cache.getIfPresent(key);
+        if (result == null) {
+            result = Optional.ofNullable(lookup.get());
+            // Warmup answers outbound calls with stand-ins, which must not be kept
+            if (!WarmupContext.isActive()) {
+                cache.put(key, result);
+            }
+        }
+        return result.orElse(null);
+    }
+
+    private record RpcKey(String postCodeOrPort, boolean isIbcOrSscs8) {
+    }
+
+    private record VenueKey(String postcode, String benefitCode, String benefitDescription) {
+    }
+}
@@ -0,0 +1,115 @@
+package uk.gov.hmcts.reform.sscs.transformers;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Appeal;
+import uk.gov.hmcts.reform.sscs.util.ContentFingerprint;
+import uk.gov.hmcts.reform.sscs.warmup.WarmupContext;
+
+/**
+ * Bounded cache of the appeal built from OCR data, together with the errors and warnings raised while building it.
+ * Building the appeal is CPU only (field parsing and fuzzy benefit matching), so it is keyed purely by a fingerprint
+ * of its inputs, and a record validated with validate-ocr and then transformed reuses the same entry. Anything that
+ * depends on outbound calls, scanned documents or the clock is still worked out on every request.
+ *
+ * <p>Appeals are mutable and are changed further down the pipeline, so each entry holds a serialised copy and every
+ * hit returns a fresh instance.
+ */
+@Slf4j
+@Component
+public class AppealBuildCache {
+
+    private final Cache<String, Entry> cache;
+    private final ObjectMapper mapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    public AppealBuildCache(@Value("${transformation.cache.enabled:true}") boolean enabled,
+                            @Value("${transformation.cache.max-size:2000}") long maxSize,
+                            @Value("${transformation.cache.ttl:PT10M}") Duration ttl) {
+        this.cache = enabled ? CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build() : null;
+    }
+
+    public static AppealBuildCache disabled() {
+        return new AppealBuildCache(false, 0, Duration.ZERO);
+    }
+
+    public String key(Map<String, Object> pairs, String formType, boolean ignoreWarnings, boolean ucOfficeFeatureActive) {
+        if (cache == null) {
+            return null;
+        }
+        return ContentFingerprint.create()
+            .fields(pairs)
+            .value(formType)
+            .value(ignoreWarnings)
+            .value(ucOfficeFeatureActive)
+            .hash();
+    }
+
+    /**
+     * Adds the cached errors and warnings to the given sets and returns a copy of the cached appeal, if there is one.
+     */
+    public Optional<Appeal> replay(String key, Set<String> errors, Set<String> warnings) {
+        Entry entry = key == null ? null : cache.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        Appeal appeal = entry.read(mapper);
+        if (appeal == null) {
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        errors.addAll(entry.errors);
+        warnings.addAll(entry.warnings);
+        return Optional.of(appeal);
+    }
+
+    public void store(String key, Appeal appeal, Set<String> errors, Set<String> warnings) {
+        // Warmup answers outbound calls with stand-ins, so what it builds must not be kept
+        if (key == null || appeal == null || WarmupContext.isActive()) {
+            return;
+        }
+        try {
+            Entry entry = new Entry(mapper.writeValueAsBytes(appeal), new ArrayList<>(errors), new ArrayList<>(warnings));
+            // Only cache appeals that survive the copy unchanged, anything else is rebuilt every time
+            if (appeal.equals(entry.read(mapper))) {
+                cache.put(key, entry);
+            }
+        } catch (IOException e) {
+            log.warn("Could not cache transformed appeal", e);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] appeal;
+        private final List<String> errors;
+        private final List<String> warnings;
+
+        private Entry(byte[] appeal, List<String> errors, List<String> warnings) {
+            this.appeal = appeal;
+            this.errors = errors;
+            this.warnings = warnings;
+        }
+
+        private Appeal read(ObjectMapper mapper) {
+            try {
+                return mapper.readValue(appeal, Appeal.class);
+            } catch (IOException e) {
+                log.warn("Could not read cached transformed appeal", e);
+                return null;
+            }
+        }
+    }
+}
@@ -5,9 +5,9 @@ import static uk.gov.hmcts.reform.sscs.ccd.domain.AppellantRole.OTHER;
 import static uk.gov.hmcts.reform.sscs.ccd.domain.Benefit.CHILD_SUPPORT;
 import static uk.gov.hmcts.reform.sscs.ccd.service.SscsCcdConvertService.normaliseNino;
 import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.*;
-import static uk.gov.hmcts.reform.sscs.constants.WarningMessage.getMessageByCallbackType;
 import static uk.gov.hmcts.reform.sscs.domain.CallbackType.EXCEPTION_CALLBACK;
 import static uk.gov.hmcts.reform.sscs.helper.SscsDataHelper.getValidationStatus;
+import static uk.gov.hmcts.reform.sscs.logging.LogMarkers.BUSINESS_EVENT;
 import static uk.gov.hmcts.reform.sscs.model.AllowedFileTypes.getContentTypeForFileName;
 import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.*;
 import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.convertBooleanToYesNoString;
@@ -17,13 +17,13 @@ import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.extractValuesWhereBo
 import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.findBooleanExists;
 import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.generateDateForCcd;
 import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.getBoolean;
-import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.getDateForCcd;
 import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.getField;
 import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.hasPerson;
 import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.isExactlyOneBooleanTrue;
 import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.isExactlyZeroBooleanTrue;
 import static uk.gov.hmcts.reform.sscs.utility.AppealNumberGenerator.generateAppealNumber;
 
+import com.google.common.collect.Sets;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.Setter;
@@ -44,11 +44,17 @@ import uk.gov.hmcts.reform.sscs.helper.SscsDataHelper;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
 import uk.gov.hmcts.reform.sscs.json.SscsJsonExtractor;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineMetrics;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineStage;
+import uk.gov.hmcts.reform.sscs.metrics.StageOutcome;
+import uk.gov.hmcts.reform.sscs.metrics.StageTimer;
 import uk.gov.hmcts.reform.sscs.model.dwp.OfficeMapping;
 import uk.gov.hmcts.reform.sscs.service.CaseManagementLocationService;
-import uk.gov.hmcts.reform.sscs.service.DwpAddressLookupService;
+import uk.gov.hmcts.reform.sscs.service.DuplicateCaseIndexShadow;
+import uk.gov.hmcts.reform.sscs.service.DwpOfficeTable;
 import uk.gov.hmcts.reform.sscs.service.FuzzyMatcherService;
-import uk.gov.hmcts.reform.sscs.service.RegionalProcessingCenterService;
+import uk.gov.hmcts.reform.sscs.service.PostcodeLookupCache;
+import uk.gov.hmcts.reform.sscs.util.OcrDateParser;
 import uk.gov.hmcts.reform.sscs.validators.FormTypeValidator;
 
 @Slf4j
@@ -65,10 +71,13 @@ public class SscsCaseTransformer implements CaseTransformer {
     private final FuzzyMatcherService fuzzyMatcherService;
     private final AppealPostcodeHelper appealPostcodeHelper;
     private final FormTypeValidator formTypeValidator;
-    private final DwpAddressLookupService dwpAddressLookupService;
+    private final DwpOfficeTable dwpOfficeTable;
     private final CaseManagementLocationService caseManagementLocationService;
 
-    private final RegionalProcessingCenterService regionalProcessingCenterService;
+    private final PostcodeLookupCache postcodeLookupCache;
+    private final AppealBuildCache appealBuildCache;
+    private final DuplicateCaseIndexShadow duplicateCaseIndexShadow;
+    private final PipelineMetrics pipelineMetrics;
     @Setter
     private boolean ucOfficeFeatureActive;
 
@@ -82,9 +91,12 @@ public class SscsCaseTransformer implements CaseTransformer {
                                FuzzyMatcherService fuzzyMatcherService,
                                AppealPostcodeHelper appealPostcodeHelper,
                                FormTypeValidator formTypeValidator,
-                               DwpAddressLookupService dwpAddressLookupService,
+                               DwpOfficeTable dwpOfficeTable,
                                CaseManagementLocationService caseManagementLocationService,
-                               RegionalProcessingCenterService regionalProcessingCenterService,
+                               PostcodeLookupCache postcodeLookupCache,
+                               AppealBuildCache appealBuildCache,
+                               DuplicateCaseIndexShadow duplicateCaseIndexShadow,
+                               PipelineMetrics pipelineMetrics,
                                @Value("${feature.uc-office-feature.enabled}") boolean ucOfficeFeatureActive) {
         this.ccdService = ccdService;
         this.idamService = idamService;
@@ -93,10 +105,13 @@ public class SscsCaseTransformer implements CaseTransformer {
         this.fuzzyMatcherService = fuzzyMatcherService;
         this.appealPostcodeHelper = appealPostcodeHelper;
         this.formTypeValidator = formTypeValidator;
-        this.dwpAddressLookupService = dwpAddressLookupService;
+        this.dwpOfficeTable = dwpOfficeTable;
         this.caseManagementLocationService = caseManagementLocationService;
         this.ucOfficeFeatureActive = ucOfficeFeatureActive;
-        this.regionalProcessingCenterService = regionalProcessingCenterService;
+        this.postcodeLookupCache = postcodeLookupCache;
+        this.appealBuildCache = appealBuildCache;
+        this.duplicateCaseIndexShadow = duplicateCaseIndexShadow;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     @Override
@@ -111,7 +126,9 @@ public class SscsCaseTransformer implements CaseTransformer {
         }
         log.info("Validating exception record against schema caseId {}", caseId);
 
+        StageTimer schemaValidation = pipelineMetrics.startInRequest(PipelineStage.SCHEMA_VALIDATION);
         CaseResponse formTypeValidatorResponse = formTypeValidator.validate(caseId, exceptionRecord);
+        schemaValidation.stop(StageOutcome.of(formTypeValidatorResponse));
 
         if (formTypeValidatorResponse.getErrors() != null) {
             log.info("Errors found while validating key value pairs while transforming exception record caseId {}",
@@ -120,7 +137,8 @@ public class SscsCaseTransformer implements CaseTransformer {
         }
 
 
-        ScannedData scannedData = sscsJsonExtractor.extractJson(exceptionRecord);
+        ScannedData scannedData = pipelineMetrics.timeInRequest(PipelineStage.OCR_EXTRACTION,
+            () -> sscsJsonExtractor.extractJson(exceptionRecord));
         String formType = getField(scannedData.getOcrCaseData(), FORM_TYPE);
 
         if (formType == null || notAValidFormType(formType)) {
@@ -144,9 +162,13 @@ public class SscsCaseTransformer implements CaseTransformer {
         IdamTokens token = idamService.getIdamTokens();
         String orgFormType = exceptionRecord.getFormType();
         boolean formTypeUpdated = formType != null && !formType.equals(orgFormType);
-        Map<String, Object> transformed = transformData(caseId, sscsJsonExtractor.extractJson(exceptionRecord), token, formType, errors, ignoreWarningsValue, formTypeUpdated, orgFormType);
+        ScannedData transformedData = pipelineMetrics.timeInRequest(PipelineStage.OCR_EXTRACTION,
+            () -> sscsJsonExtractor.extractJson(exceptionRecord));
+        Map<String, Object> transformed = transformData(caseId, transformedData, token, formType, errors, ignoreWarningsValue, formTypeUpdated, orgFormType);
 
-        duplicateCaseCheck(caseId, transformed, token);
+        StageTimer duplicateCheck = pipelineMetrics.startInRequest(PipelineStage.DUPLICATE_CHECK);
+        duplicateCaseCheck(caseId, transformed, token, !combineWarnings);
+        duplicateCheck.stop(StageOutcome.SUCCESS);
 
         if (combineWarnings) {
             warnings = combineWarnings();
@@ -176,7 +198,8 @@ public class SscsCaseTransformer implements CaseTransformer {
                                               boolean formTypeUpdated,
                                               String orgFormType) {
         boolean isSscs8 = FormType.SSCS8.toString().equalsIgnoreCase(formType);
-        Appeal appeal = buildAppealFromData(scannedData.getOcrCaseData(), caseId, formType, errors, ignoreWarnings, isSscs8);
+        Appeal appeal = pipelineMetrics.timeInRequest(PipelineStage.APPEAL_BUILD,
+            () -> buildAppeal(scannedData.getOcrCaseData(), caseId, formType, errors, ignoreWarnings, isSscs8));
         List<SscsDocument> sscsDocuments = buildDocumentsFromData(scannedData.getRecords(), formTypeUpdated, orgFormType, formType);
         Subscriptions subscriptions = populateSubscriptions(appeal, scannedData.getOcrCaseData());
 
@@ -190,11 +213,12 @@ public class SscsCaseTransformer implements CaseTransformer {
         transformed.put("bulkScanCaseReference", caseId);
         transformed.put("caseCreated", scannedData.getOpeningDate());
 
+        StageTimer venueLookup = pipelineMetrics.startInRequest(PipelineStage.VENUE_LOOKUP);
         String postCodeOrPort = appealPostcodeHelper.resolvePostCodeOrPort(appeal.getAppellant());
         String processingVenue = sscsDataHelper.findProcessingVenue(postCodeOrPort, appeal.getBenefitType());
         boolean isIbcCode = appeal.getBenefitType() != null && appeal.getBenefitType().getCode() != null && appeal.getBenefitType().getCode().equals(Benefit.INFECTED_BLOOD_COMPENSATION.getShortName());
         boolean isIbcDescription = appeal.getBenefitType() != null && appeal.getBenefitType().getDescription() != null && appeal.getBenefitType().getDescription().equalsIgnoreCase(Benefit.INFECTED_BLOOD_COMPENSATION.getDescription());
-        RegionalProcessingCenter rpc = regionalProcessingCenterService.getByPostcode(postCodeOrPort, isIbcCode || isIbcDescription);
+        RegionalProcessingCenter rpc = postcodeLookupCache.getRpcByPostcode(postCodeOrPort, isIbcCode || isIbcDescription);
 
         if (isNotBlank(processingVenue)) {
             log.info("{} - setting venue name to {}", caseId, processingVenue);
@@ -205,8 +229,9 @@ public class SscsCaseTransformer implements CaseTransformer {
             caseManagementLocationOptional.ifPresent(caseManagementLocation ->
                 transformed.put("caseManagementLocation", caseManagementLocation));
         }
+        venueLookup.stop(StageOutcome.SUCCESS);
 
-        log.info("Transformation complete for exception record id {}, caseCreated field set to {}", caseId,
+        log.info(BUSINESS_EVENT, "Transformation complete for exception record id {}, caseCreated field set to {}", caseId,
             scannedData.getOpeningDate());
 
         return checkForMatches(transformed, token);
@@ -244,6 +269,20 @@ public class SscsCaseTransformer implements CaseTransformer {
             .wantSmsNotifications(convertBooleanToYesNoString(wantsSms)).tya(generateAppealNumber()).build();
     }
 
+    private Appeal buildAppeal(Map<String, Object> pairs, String caseId, String formType, Set<String> errors, boolean ignoreWarnings, boolean isSscs8) {
+        String cacheKey = appealBuildCache.key(pairs, formType, ignoreWarnings, ucOfficeFeatureActive);
+        Optional<Appeal> cachedAppeal = appealBuildCache.replay(cacheKey, errors, warnings);
+        if (cachedAppeal.isPresent()) {
+            return cachedAppeal.get();
+        }
+
+        Set<String> errorsBefore = new HashSet<>(errors);
+        Set<String> warningsBefore = new HashSet<>(warnings);
+        Appeal appeal = buildAppealFromData(pairs, caseId, formType, errors, ignoreWarnings, isSscs8);
+        appealBuildCache.store(cacheKey, appeal, Sets.difference(errors, errorsBefore), Sets.difference(warnings, warningsBefore));
+        return appeal;
+    }
+
     private Appeal buildAppealFromData(Map<String, Object> pairs, String caseId, String formType, Set<String> errors, boolean ignoreWarnings, boolean isSscs8) {
         Appellant appellant = null;
 
@@ -468,10 +507,11 @@ public class SscsCaseTransformer implements CaseTransformer {
 
     private String getCodeFromField(String caseId, Map<String, Object> pairs, String fieldName) {
         String code = getField(pairs, fieldName);
-        if (code != null) {
-            code = fuzzyMatcherService.matchBenefitType(caseId, code);
+        if (code == null) {
+            return null;
         }
-        return code;
+        return pipelineMetrics.timeInRequest(PipelineStage.BENEFIT_MATCH,
+            () -> fuzzyMatcherService.matchBenefitType(caseId, code));
     }
 
     private Appellant buildAppellant(Map<String, Object> pairs, String personType, Appointee appointee,
@@ -552,7 +592,7 @@ public class SscsCaseTransformer implements CaseTransformer {
     private boolean validateValues(List<String> validValues, String otherPartyDetails, boolean ignoreWarnings) {
         if (validValues.isEmpty() && StringUtils.isEmpty(otherPartyDetails)) {
             if (!ignoreWarnings) {
-                warnings.add(getMessageByCallbackType(EXCEPTION_CALLBACK, "", WarningMessage.APPELLANT_PARTY_NAME.toString(),
+                warnings.add(WarningMessage.APPELLANT_PARTY_NAME.message(EXCEPTION_CALLBACK, "",
                     FIELDS_EMPTY));
             }
             return false;
@@ -572,7 +612,7 @@ public class SscsCaseTransformer implements CaseTransformer {
 
             if (OTHER.equals(appellantRole) && StringUtils.isEmpty(otherPartyDetails)) {
                 if (!ignoreWarnings) {
-                    warnings.add(getMessageByCallbackType(EXCEPTION_CALLBACK, "", WarningMessage.APPELLANT_PARTY_DESCRIPTION.toString(),
+                    warnings.add(WarningMessage.APPELLANT_PARTY_DESCRIPTION.message(EXCEPTION_CALLBACK, "",
                         FIELDS_EMPTY));
                 }
                 return false;
@@ -656,11 +696,11 @@ public class SscsCaseTransformer implements CaseTransformer {
             }
             if (Benefit.getBenefitOptionalByCode(benefitType.getCode())
                 .filter(benefit -> isBenefitWithAutoFilledOffice(benefit, dwpIssuingOffice)).isPresent()) {
-                return dwpAddressLookupService.getDefaultDwpMappingByBenefitType(benefitType.getCode())
+                return dwpOfficeTable.getDefaultDwpMappingByBenefitType(benefitType.getCode())
                     .map(OfficeMapping::getCode)
                     .orElse(null);
             } else if (dwpIssuingOffice != null) {
-                return dwpAddressLookupService.getDwpMappingByOffice(benefitType.getCode(), dwpIssuingOffice)
+                return dwpOfficeTable.getDwpMappingByOffice(benefitType.getCode(), dwpIssuingOffice)
                     .map(office -> office.getMapping().getCcd())
                     .orElse(null);
             }
@@ -916,27 +956,17 @@ public class SscsCaseTransformer implements CaseTransformer {
         List<ExcludeDate> excludeDates = new ArrayList<>();
 
         if (excludedDatesList != null && !excludedDatesList.isEmpty()) {
-            String[] items = excludedDatesList.split(",\\s*");
-
-            for (String item : items) {
-                List<String> range = Arrays.asList(item.split("\\s*-\\s*"));
-                String errorMessage = "hearing_options_exclude_dates contains an invalid date range. "
-                    + "Should be single dates separated by commas and/or a date range "
-                    + "e.g. 01/01/2020, 07/01/2020, 12/01/2020 - 15/01/2020";
-
-                if (range.size() > 2) {
-                    errors.add(errorMessage);
-                    return excludeDates;
-                }
-
-                String startDate = getDateForCcd(range.get(0), errors, errorMessage);
-                String endDate = null;
-
-                if (2 == range.size()) {
-                    endDate = getDateForCcd(range.get(1), errors, errorMessage);
-                }
-                excludeDates.add(
-                    ExcludeDate.builder().value(DateRange.builder().start(startDate).end(endDate).build()).build());
+            String errorMessage = "hearing_options_exclude_dates contains an invalid date range. "
+                + "Should be single dates separated by commas and/or a date range "
+                + "e.g. 01/01/2020, 07/01/2020, 12/01/2020 - 15/01/2020";
+
+            List<DateRange> ranges = new ArrayList<>();
+            boolean complete = OcrDateParser.parseDateRanges(excludedDatesList, ranges, errors, errorMessage);
+            for (DateRange range : ranges) {
+                excludeDates.add(ExcludeDate.builder().value(range).build());
+            }
+            if (!complete) {
+                return excludeDates;
             }
         }
         if (excludeDates.isEmpty()) {
@@ -1049,7 +1079,7 @@ public class SscsCaseTransformer implements CaseTransformer {
             associatedCases.add(caseLink);
 
             String caseId = null != sscsCaseDetails.getId() ? sscsCaseDetails.getId().toString() : "N/A";
-            log.info("Added associated case {}", caseId);
+            log.info(BUSINESS_EVENT, "Added associated case {}", caseId);
         }
         if (!associatedCases.isEmpty()) {
             sscsCaseData.put("associatedCase", associatedCases);
@@ -1061,7 +1091,7 @@ public class SscsCaseTransformer implements CaseTransformer {
         return sscsCaseData;
     }
 
-    private void duplicateCaseCheck(String caseId, Map<String, Object> sscsCaseData, IdamTokens token) {
+    private void duplicateCaseCheck(String caseId, Map<String, Object> sscsCaseData, IdamTokens token, boolean creatingCase) {
         Appeal appeal = (Appeal) sscsCaseData.get("appeal");
         String nino = "";
         String mrnDate = "";
@@ -1085,12 +1115,14 @@ public class SscsCaseTransformer implements CaseTransformer {
             searchCriteria.put("case.appeal.benefitType.code", benefitType);
             searchCriteria.put("case.appeal.mrnDetails.mrnDate", mrnDate);
 
-            SscsCaseDetails duplicateCase =
-                ccdService.findCcdCaseByNinoAndBenefitTypeAndMrnDate(nino, benefitType, mrnDate, token);
+            SscsCaseDetails duplicateCase = ccdService.findCcdCaseByNinoAndBenefitTypeAndMrnDate(nino, benefitType, mrnDate, token);
+            duplicateCaseIndexShadow.recordSearchResult(nino, benefitType, mrnDate, duplicateCase != null);
 
             if (duplicateCase != null) {
-                log.info("Duplicate case already exists for exception record id {}", caseId);
+                log.info(BUSINESS_EVENT, "Duplicate case already exists for exception record id {}", caseId);
                 errors.add("Duplicate case already exists - please reject this exception record");
+            } else if (creatingCase && errors.isEmpty()) {
+                duplicateCaseIndexShadow.add(nino, benefitType, mrnDate);
             }
         }
     }
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import java.time.Duration;
+
+/**
+ * Limits how many requests run at once, adjusting the limit to their latency with additive increase and
+ * multiplicative decrease. While requests complete within the latency threshold and the limit is being used the
+ * limit grows by about one for every limit's worth of requests, and a slower request cuts it by the backoff ratio.
+ * Once cut, the limit is left alone until as many requests complete as were running at the time, as those were
+ * started under the old limit and their latency says nothing about the new one.
+ */
+public class ConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private double limit;
+    private int inFlight;
+    private int startedBeforeBackoff;
+
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, Duration latencyThreshold) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Starts a request if there is room under the limit. A request that is started must be released once it
+     * completes.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= limit()) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void release(long latencyNanos) {
+        int inFlightBefore = inFlight;
+        inFlight--;
+        if (startedBeforeBackoff > 0) {
+            startedBeforeBackoff--;
+        } else if (latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            startedBeforeBackoff = inFlight;
+        } else if (inFlightBefore * 2 >= limit) {
+            // Only grown when at least half of it is in use, so that a quiet period does not leave it too high
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+}
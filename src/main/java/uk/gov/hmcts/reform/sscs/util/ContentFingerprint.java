@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * SHA-256 fingerprint of OCR key value pairs plus any other inputs that change how they are processed. Fields are
+ * hashed in name order, so the order they were captured in does not matter, and every value is length-prefixed so
+ * that different splits of the same characters cannot collide.
+ */
+public final class ContentFingerprint {
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte PRESENT_VALUE = 1;
+
+    private final MessageDigest digest;
+
+    private ContentFingerprint() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static ContentFingerprint create() {
+        return new ContentFingerprint();
+    }
+
+    public ContentFingerprint fields(Map<String, ?> fields) {
+        if (fields == null) {
+            return value(null);
+        }
+        Map<String, ?> sorted = fields instanceof TreeMap ? fields : new TreeMap<>(fields);
+        value(String.valueOf(sorted.size()));
+        sorted.forEach((name, value) -> {
+            value(name);
+            value(value == null ? null : value.toString());
+        });
+        return this;
+    }
+
+    public ContentFingerprint value(Object value) {
+        if (value == null) {
+            digest.update(NULL_VALUE);
+            return this;
+        }
+        byte[] bytes = value.toString().getBytes(UTF_8);
+        digest.update(PRESENT_VALUE);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+        return this;
+    }
+
+    public String hash() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,239 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.List;
+import java.util.Set;
+import uk.gov.hmcts.reform.sscs.ccd.domain.DateRange;
+
+/**
+ * Parses the dates we accept on forms, {@code d/M/uuuu} and {@code ddMMuuuu}, and lists of them separated by commas
+ * with {@code -} between the ends of a range, by scanning characters rather than through a formatter and regular
+ * expressions. Dates are checked strictly against the calendar and written straight out as CCD dates.
+ *
+ * <p>Only the shapes that forms actually hold are scanned. Anything else, such as a year with a sign or a day with
+ * leading zeros, is handed to the formatters this replaces, so every input gets the same result as before.
+ */
+public final class OcrDateParser {
+
+    private static final DateTimeFormatter OCR_DATE = DateTimeFormatter.ofPattern("[d/M/uuuu][ddMMuuuu]")
+        .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter CCD_DATE_OUT = DateTimeFormatter.ofPattern("uuuu-MM-dd");
+    private static final DateTimeFormatter CCD_DATE_IN = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private OcrDateParser() {
+    }
+
+    /**
+     * The CCD date for a non-empty date from a form, or null if it is not a valid date.
+     */
+    public static String toCcdDate(String ocrDate) {
+        return toCcdDate(ocrDate, 0, ocrDate.length());
+    }
+
+    /**
+     * Splits a list of dates and date ranges, adding each to {@code ranges}, and adds {@code errorMessage} for every
+     * invalid date. Stops, returning false, at an item with more than two dates.
+     */
+    public static boolean parseDateRanges(String text, List<DateRange> ranges, Set<String> errors, String errorMessage) {
+        int end = withoutTrailingEmptyItems(text);
+        int from = 0;
+        while (from < end) {
+            int comma = text.indexOf(',', from);
+            int to = comma < 0 || comma > end ? end : comma;
+            if (!parseDateRange(text, from, to, ranges, errors, errorMessage)) {
+                return false;
+            }
+            from = to == end ? end : skipWhitespace(text, to + 1, text.length());
+        }
+        return true;
+    }
+
+    /**
+     * The date from a CCD date field, or null if it is not a valid date. Days past the end of the month are moved to
+     * its last day, as the smart resolver does.
+     */
+    public static LocalDate parseCcdDate(String ccdDate) {
+        if (ccdDate.length() == 10 && ccdDate.charAt(4) == '-' && ccdDate.charAt(7) == '-') {
+            int year = digits(ccdDate, 0, 4);
+            int month = digits(ccdDate, 5, 7);
+            int day = digits(ccdDate, 8, 10);
+            if (year > 0 && month >= 1 && month <= 12 && day >= 1 && day <= 31) {
+                return LocalDate.of(year, month, Math.min(day, lengthOfMonth(year, month)));
+            }
+        }
+        try {
+            return LocalDate.parse(ccdDate, CCD_DATE_IN);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // The same pieces as splitting on "\s*-\s*", which drops trailing empty pieces
+    private static boolean parseDateRange(String text, int from, int to, List<DateRange> ranges, Set<String> errors,
+                                          String errorMessage) {
+        int startFrom = from;
+        int startTo = to;
+        int endFrom = to;
+        int endTo = to;
+        int pieces = 0;
+        int kept = 0;
+        int at = from;
+        int dash;
+        do {
+            dash = dash(text, at, to);
+            int pieceTo = dash < 0 ? to : trimEnd(text, at, dash);
+            pieces++;
+            if (pieces == 1) {
+                startFrom = at;
+                startTo = pieceTo;
+            } else if (pieces == 2) {
+                endFrom = at;
+                endTo = pieceTo;
+            }
+            if (pieceTo > at || dash < 0 && pieces == 1) {
+                kept = pieces;
+            }
+            at = dash < 0 ? to : skipWhitespace(text, dash + 1, to);
+        } while (dash >= 0);
+
+        // Nothing but dashes used to fail on an empty range, and is now reported as an invalid one
+        if (kept == 0 || kept > 2) {
+            errors.add(errorMessage);
+            return false;
+        }
+        String start = toCcdDate(text, startFrom, startTo, errors, errorMessage);
+        String end = kept == 2 ? toCcdDate(text, endFrom, endTo, errors, errorMessage) : null;
+        ranges.add(DateRange.builder().start(start).end(end).build());
+        return true;
+    }
+
+    private static String toCcdDate(String text, int from, int to, Set<String> errors, String errorMessage) {
+        if (from == to) {
+            return null;
+        }
+        String date = toCcdDate(text, from, to);
+        if (date == null) {
+            errors.add(errorMessage);
+        }
+        return date;
+    }
+
+    private static String toCcdDate(String text, int from, int to) {
+        int firstSlash = slash(text, from, to);
+        int secondSlash = firstSlash < 0 ? -1 : slash(text, firstSlash + 1, to);
+        int year = -1;
+        int month = -1;
+        int day = -1;
+        if (firstSlash < 0 && to - from == 8) {
+            day = digits(text, from, from + 2);
+            month = digits(text, from + 2, from + 4);
+            year = digits(text, from + 4, to);
+        } else if (firstSlash - from >= 1 && firstSlash - from <= 2
+            && secondSlash - firstSlash >= 2 && secondSlash - firstSlash <= 3 && to - secondSlash == 5) {
+            day = digits(text, from, firstSlash);
+            month = digits(text, firstSlash + 1, secondSlash);
+            year = digits(text, secondSlash + 1, to);
+        }
+        // Anything else, including a part that is not all digits, is left to the formatter
+        if (year < 0 || month < 0 || day < 0) {
+            return toCcdDateByFormatter(text.substring(from, to));
+        }
+        return ccdDate(year, month, day);
+    }
+
+    private static String toCcdDateByFormatter(String ocrDate) {
+        try {
+            return LocalDate.parse(ocrDate, OCR_DATE).format(CCD_DATE_OUT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String ccdDate(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return null;
+        }
+        char[] date = new char[10];
+        write(date, 0, year, 4);
+        date[4] = '-';
+        write(date, 5, month, 2);
+        date[7] = '-';
+        write(date, 8, day, 2);
+        return new String(date);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static boolean isLeap(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static void write(char[] out, int at, int value, int width) {
+        for (int i = at + width - 1; i >= at; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int dash(String text, int from, int to) {
+        int dash = text.indexOf('-', from);
+        return dash < to ? dash : -1;
+    }
+
+    private static int slash(String text, int from, int to) {
+        int slash = text.indexOf('/', from);
+        return slash < to ? slash : -1;
+    }
+
+    private static int withoutTrailingEmptyItems(String text) {
+        int end = text.length();
+        int comma = text.lastIndexOf(',', end - 1);
+        while (comma >= 0 && skipWhitespace(text, comma + 1, end) == end) {
+            end = comma;
+            comma = text.lastIndexOf(',', end - 1);
+        }
+        return end;
+    }
+
+    private static int skipWhitespace(String text, int from, int to) {
+        int i = from;
+        while (i < to && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int trimEnd(String text, int from, int to) {
+        int i = to;
+        while (i > from && isWhitespace(text.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    // The characters \s matches
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one computation per key at a time. A caller that arrives while the computation for its key is still
+ * running waits for it and gets the same result, or the same exception, instead of starting another one. Nothing is
+ * kept once the computation finishes, so a later call with the same key runs again.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> work) {
+        return execute(key, work, () -> { });
+    }
+
+    /**
+     * As {@link #execute(Object, Supplier)}, calling {@code onJoin} when this caller waits for a computation that
+     * another caller started.
+     */
+    public V execute(K key, Supplier<V> work, Runnable onJoin) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            onJoin.run();
+            return await(running);
+        }
+
+        try {
+            V result = work.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,9 +1,5 @@
 package uk.gov.hmcts.reform.sscs.util;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -144,15 +140,12 @@ public final class SscsOcrDataUtil {
     }
 
     public static String getDateForCcd(String ocrField, Set<String> errors, String errorMessage) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("[d/M/uuuu][ddMMuuuu]")
-            .withResolverStyle(ResolverStyle.STRICT);
-
         if (!StringUtils.isEmpty(ocrField)) {
-            try {
-                return LocalDate.parse(ocrField, formatter).format(DateTimeFormatter.ofPattern("uuuu-MM-dd"));
-            } catch (DateTimeParseException ex) {
+            String date = OcrDateParser.toCcdDate(ocrField);
+            if (date == null) {
                 errors.add(errorMessage);
             }
+            return date;
         }
         return null;
     }
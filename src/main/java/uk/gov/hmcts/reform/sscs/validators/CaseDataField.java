@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.sscs.validators;
+
+import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.APPEAL_GROUNDS;
+import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.APPEAL_GROUNDS_2;
+import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.IBC_ROLE_FOR_DECEASED;
+import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.IBC_ROLE_FOR_LACKING_CAPACITY;
+import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.IBC_ROLE_FOR_POA;
+import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.IBC_ROLE_FOR_SELF;
+import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.IBC_ROLE_FOR_U18;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Appeal;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+
+/**
+ * The parts of a case that validation rules and the fields set on a validated record are worked out from, so that
+ * a record can be compared with its case details before one part at a time.
+ *
+ * <p>An exception record is read from its transformed case data instead, and also has the few OCR fields that some
+ * checks read directly. A case has none of those, so they always read as empty for it.
+ */
+public enum CaseDataField {
+    APPELLANT(Appeal::getAppellant),
+    REPRESENTATIVE(Appeal::getRep),
+    MRN_DETAILS(Appeal::getMrnDetails),
+    BENEFIT_TYPE(Appeal::getBenefitType),
+    HEARING_OPTIONS(Appeal::getHearingOptions),
+    HEARING_TYPE(Appeal::getHearingType),
+    HEARING_SUBTYPE(Appeal::getHearingSubtype),
+    APPEAL_REASONS(Appeal::getAppealReasons),
+    CHILD_MAINTENANCE_NUMBER(SscsCaseData::getChildMaintenanceNumber, "childMaintenanceNumber"),
+    OTHER_PARTIES(SscsCaseData::getOtherParties, "otherParties"),
+    SSCS_DOCUMENT(SscsCaseData::getSscsDocument, "sscsDocument"),
+    REGIONAL_PROCESSING_CENTER(SscsCaseData::getRegionalProcessingCenter, "regionalProcessingCenter"),
+    OCR_APPEAL_GROUNDS(APPEAL_GROUNDS, APPEAL_GROUNDS_2),
+    OCR_ISSUING_OFFICE("office"),
+    OCR_IBC_ROLES(IBC_ROLE_FOR_SELF, IBC_ROLE_FOR_U18, IBC_ROLE_FOR_LACKING_CAPACITY, IBC_ROLE_FOR_POA,
+        IBC_ROLE_FOR_DECEASED);
+
+    private final String property;
+    private final Function<SscsCaseData, Object> value;
+    private final BiFunction<Map<String, Object>, Map<String, Object>, Object> exceptionRecordValue;
+
+    CaseDataField(Function<Appeal, Object> appealField) {
+        this.property = "appeal";
+        this.value = caseData -> appeal(caseData.getAppeal(), appealField);
+        this.exceptionRecordValue = (caseData, ocrCaseData) -> appeal((Appeal) caseData.get("appeal"), appealField);
+    }
+
+    CaseDataField(Function<SscsCaseData, Object> value, String name) {
+        this.property = name;
+        this.value = value;
+        this.exceptionRecordValue = (caseData, ocrCaseData) -> caseData.get(name);
+    }
+
+    CaseDataField(String... ocrNames) {
+        this.property = null;
+        this.value = caseData -> Map.of();
+        this.exceptionRecordValue = (caseData, ocrCaseData) -> ocrFields(ocrCaseData, ocrNames);
+    }
+
+    /**
+     * The case data properties that every field of a case is read from.
+     */
+    public static Set<String> caseDataProperties() {
+        return Stream.of(values())
+            .filter(field -> field.property != null)
+            .map(field -> field.property)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public Object read(SscsCaseData caseData) {
+        return caseData == null ? null : value.apply(caseData);
+    }
+
+    public Object read(Map<String, Object> caseData, Map<String, Object> ocrCaseData) {
+        return caseData == null ? null : exceptionRecordValue.apply(caseData, ocrCaseData);
+    }
+
+    private static Object appeal(Appeal appeal, Function<Appeal, Object> field) {
+        return appeal == null ? null : field.apply(appeal);
+    }
+
+    // Checks tell a field that is missing from one captured empty, so only the ones that are there are included
+    private static Map<String, Object> ocrFields(Map<String, Object> ocrCaseData, String... names) {
+        Map<String, Object> fields = new TreeMap<>();
+        if (ocrCaseData != null) {
+            for (String name : names) {
+                if (ocrCaseData.containsKey(name)) {
+                    fields.put(name, ocrCaseData.get(name));
+                }
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.sscs.validators;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import uk.gov.hmcts.reform.sscs.util.ContentFingerprint;
+
+/**
+ * A record being validated again, with a fingerprint of each {@link CaseDataField} that can be reused and what
+ * earlier validations worked out, kept by step, the context the record was validated in and the fingerprints of the
+ * fields the step read. A step whose fields all have the same fingerprints as one of those gives its earlier result
+ * instead of running again.
+ *
+ * <p>Fields that differ from the case details before are not fingerprinted, so steps over a field being edited run
+ * every time, and can be reused once the field has been left alone for a request. Steps must not change the case
+ * data, and must read every field their result depends on, including any that a step before them may have changed.
+ */
+public final class Revalidation {
+
+    private static final Revalidation UNTRACKED = new Revalidation(null, Map.of(), Map.of());
+
+    private final String context;
+    private final Map<CaseDataField, String> fingerprints;
+    private final Map<String, Result> earlier;
+    private final Map<String, Result> results = new HashMap<>();
+    private int steps;
+    private int reused;
+
+    Revalidation(String context, Map<CaseDataField, String> fingerprints, Map<String, Result> earlier) {
+        this.context = context;
+        this.fingerprints = fingerprints;
+        this.earlier = earlier;
+    }
+
+    /**
+     * Runs every step and keeps nothing, for a record with no case details before or when incremental validation is
+     * switched off.
+     */
+    public static Revalidation untracked() {
+        return UNTRACKED;
+    }
+
+    public boolean isTracked() {
+        return context != null;
+    }
+
+    /**
+     * The result of the step from an earlier validation if its fields are unchanged, otherwise the result of running it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T reuseOr(String step, Set<CaseDataField> fields, Supplier<T> run) {
+        if (!isTracked()) {
+            return run.get();
+        }
+        steps++;
+        String key = key(step, fields);
+        Result result = key != null ? earlier.get(key) : null;
+        if (result != null) {
+            reused++;
+        } else {
+            result = new Result(run.get());
+        }
+        if (key != null) {
+            results.put(key, result);
+        }
+        return (T) result.value();
+    }
+
+    public int steps() {
+        return steps;
+    }
+
+    public int reused() {
+        return reused;
+    }
+
+    Map<String, Result> results() {
+        return Map.copyOf(results);
+    }
+
+    // Null when a field has no fingerprint, as the step can then be neither reused nor kept
+    private String key(String step, Set<CaseDataField> fields) {
+        if (!fingerprints.keySet().containsAll(fields)) {
+            return null;
+        }
+        ContentFingerprint key = ContentFingerprint.create().value(context).value(step);
+        for (CaseDataField field : CaseDataField.values()) {
+            if (fields.contains(field)) {
+                key.value(field).value(fingerprints.get(field));
+            }
+        }
+        return key.hash();
+    }
+
+    // Steps can work out null, which is still a result to reuse
+    record Result(Object value) {
+    }
+}
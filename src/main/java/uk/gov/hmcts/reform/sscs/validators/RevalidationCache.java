@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.sscs.validators;
+
+import static uk.gov.hmcts.reform.sscs.domain.CallbackType.EXCEPTION_CALLBACK;
+import static uk.gov.hmcts.reform.sscs.domain.CallbackType.VALIDATION_CALLBACK;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ExceptionRecord;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.helper.OcrDataBuilder;
+import uk.gov.hmcts.reform.sscs.util.ContentFingerprint;
+import uk.gov.hmcts.reform.sscs.warmup.WarmupContext;
+
+/**
+ * Bounded caches of what earlier validations worked out, so that when a caseworker edits an incomplete case or
+ * corrects the OCR data of an envelope only the checks and lookups over the parts they changed are made again.
+ *
+ * <p>Cases are kept by case id, with the steps of their last validate-record. A validate-ocr request does not say
+ * which envelope it is for, so exception records share one cache of steps, kept only by what each step read. Either
+ * way steps are only reused for the same form type, event, warnings handling and day, as checks against today's date
+ * can change overnight. Each instance keeps its own entries, and a record last validated elsewhere is validated in
+ * full. Nothing is kept from the startup warmup, whose outbound calls are answered by stand-ins.
+ */
+@Slf4j
+@Component
+public class RevalidationCache {
+
+    private final Cache<Long, Map<String, Revalidation.Result>> cases;
+    private final Cache<String, Revalidation.Result> exceptionRecordSteps;
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+    public RevalidationCache(@Value("${feature.incremental-validation.enabled:false}") boolean enabled,
+                             @Value("${validation.revalidation-cache.max-size:5000}") long maxSize,
+                             @Value("${validation.revalidation-cache.ocr-steps-max-size:20000}") long ocrStepsMaxSize,
+                             @Value("${validation.revalidation-cache.ttl:PT30M}") Duration ttl) {
+        this.cases = enabled ? CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterAccess(ttl).build() : null;
+        this.exceptionRecordSteps = enabled
+            ? CacheBuilder.newBuilder().maximumSize(ocrStepsMaxSize).expireAfterAccess(ttl).build() : null;
+    }
+
+    public static RevalidationCache disabled() {
+        return new RevalidationCache(false, 0, 0, Duration.ZERO);
+    }
+
+    public boolean isEnabled() {
+        return cases != null;
+    }
+
+    /**
+     * Compares the record with its case details before, which must be done before anything on the record is changed.
+     */
+    public Revalidation start(Callback<SscsCaseData> callback, boolean ignoreMrnValidation) {
+        Long caseId = callback.getCaseDetails().getId();
+        if (cases == null || caseId == null || callback.getCaseDetailsBefore().isEmpty()) {
+            return Revalidation.untracked();
+        }
+        SscsCaseData caseData = callback.getCaseDetails().getCaseData();
+        SscsCaseData before = callback.getCaseDetailsBefore().get().getCaseData();
+
+        Map<CaseDataField, String> fingerprints = new EnumMap<>(CaseDataField.class);
+        for (CaseDataField field : CaseDataField.values()) {
+            Object value = field.read(caseData);
+            if (Objects.equals(value, field.read(before))) {
+                putFingerprint(fingerprints, field, value);
+            }
+        }
+        String context = ContentFingerprint.create()
+            .value(VALIDATION_CALLBACK)
+            .value(caseData.getFormType())
+            .value(callback.getEvent())
+            .value(ignoreMrnValidation)
+            .value(LocalDate.now())
+            .hash();
+        Map<String, Revalidation.Result> earlier = cases.getIfPresent(caseId);
+        return new Revalidation(context, fingerprints, earlier != null ? earlier : Map.of());
+    }
+
+    public void finish(Callback<SscsCaseData> callback, Revalidation revalidation) {
+        if (cases != null && revalidation.isTracked() && !WarmupContext.isActive()) {
+            cases.put(callback.getCaseDetails().getId(), revalidation.results());
+        }
+    }
+
+    /**
+     * Fingerprints the transformed case data of an exception record, which must be done before it is validated.
+     */
+    public Revalidation start(ExceptionRecord exceptionRecord, Map<String, Object> caseData) {
+        if (exceptionRecordSteps == null || caseData == null) {
+            return Revalidation.untracked();
+        }
+        Map<String, Object> ocrCaseData = OcrDataBuilder.build(exceptionRecord.getOcrDataFields());
+
+        Map<CaseDataField, String> fingerprints = new EnumMap<>(CaseDataField.class);
+        for (CaseDataField field : CaseDataField.values()) {
+            putFingerprint(fingerprints, field, field.read(caseData, ocrCaseData));
+        }
+        String context = ContentFingerprint.create()
+            .value(EXCEPTION_CALLBACK)
+            .value(caseData.get("formType"))
+            .value(Boolean.TRUE.equals(exceptionRecord.getIgnoreWarnings()))
+            .value(LocalDate.now())
+            .hash();
+        return new Revalidation(context, fingerprints, exceptionRecordSteps.asMap());
+    }
+
+    public void finish(Revalidation revalidation) {
+        if (exceptionRecordSteps != null && revalidation.isTracked() && !WarmupContext.isActive()) {
+            exceptionRecordSteps.putAll(revalidation.results());
+        }
+    }
+
+    // Fingerprinted as JSON rather than compared with equals, as the earlier values were changed by their validation
+    private void putFingerprint(Map<CaseDataField, String> fingerprints, CaseDataField field, Object value) {
+        try {
+            fingerprints.put(field, ContentFingerprint.create().value(mapper.writeValueAsString(value)).hash());
+        } catch (JsonProcessingException e) {
+            log.warn("Could not fingerprint {}, it will be validated in full", field, e);
+        }
+    }
+}
@@ -2,16 +2,17 @@ package uk.gov.hmcts.reform.sscs.validators;
 
 import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.VALID_APPEAL;
 import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.*;
-import static uk.gov.hmcts.reform.sscs.constants.WarningMessage.getMessageByCallbackType;
 import static uk.gov.hmcts.reform.sscs.domain.CallbackType.EXCEPTION_CALLBACK;
 import static uk.gov.hmcts.reform.sscs.domain.CallbackType.VALIDATION_CALLBACK;
 import static uk.gov.hmcts.reform.sscs.helper.SscsDataHelper.getValidationStatus;
 import static uk.gov.hmcts.reform.sscs.util.SscsOcrDataUtil.*;
+import static uk.gov.hmcts.reform.sscs.validators.CaseDataField.*;
+import static uk.gov.hmcts.reform.sscs.validators.ValidationRule.rule;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,18 +22,20 @@ import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ExceptionRecord;
 import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ScannedData;
 import uk.gov.hmcts.reform.sscs.bulkscancore.validators.CaseValidator;
 import uk.gov.hmcts.reform.sscs.ccd.domain.*;
+import uk.gov.hmcts.reform.sscs.constants.SscsConstants;
 import uk.gov.hmcts.reform.sscs.constants.WarningMessage;
 import uk.gov.hmcts.reform.sscs.domain.CallbackType;
 import uk.gov.hmcts.reform.sscs.json.SscsJsonExtractor;
 import uk.gov.hmcts.reform.sscs.model.dwp.OfficeMapping;
-import uk.gov.hmcts.reform.sscs.service.DwpAddressLookupService;
-import uk.gov.hmcts.reform.sscs.service.RegionalProcessingCenterService;
+import uk.gov.hmcts.reform.sscs.service.DwpOfficeTable;
+import uk.gov.hmcts.reform.sscs.service.PostcodeLookupCache;
+import uk.gov.hmcts.reform.sscs.util.OcrDateParser;
 
 @Component
 @Slf4j
 public class SscsCaseValidator implements CaseValidator {
 
-    public static final String IS_NOT_A_VALID_POSTCODE = "is not a valid postcode";
+    public static final String IS_NOT_A_VALID_POSTCODE = SscsConstants.IS_NOT_A_VALID_POSTCODE;
 
     @SuppressWarnings("squid:S5843")
     private static final String PHONE_REGEX =
@@ -57,10 +60,11 @@ public class SscsCaseValidator implements CaseValidator {
     private static final String COUNTY_REGEX =
         "^\\.$|^[a-zA-ZÀ-ž0-9]{1}[a-zA-ZÀ-ž0-9 \\r\\n\\.“”\",’\\?\\!\\[\\]\\(\\)/£:\\\\_+\\-%&;]{1,}$";
 
-    private final RegionalProcessingCenterService regionalProcessingCenterService;
-    private final DwpAddressLookupService dwpAddressLookupService;
+    private final PostcodeLookupCache postcodeLookupCache;
+    private final DwpOfficeTable dwpOfficeTable;
     private final PostcodeValidator postcodeValidator;
     private final SscsJsonExtractor sscsJsonExtractor;
+    private final ValidationPlan plan;
     List<String> warnings;
     List<String> errors;
     private CallbackType callbackType;
@@ -70,16 +74,17 @@ public class SscsCaseValidator implements CaseValidator {
     //TODO: Remove when uc-office-feature switched on
     private boolean ucOfficeFeatureActive;
 
-    public SscsCaseValidator(RegionalProcessingCenterService regionalProcessingCenterService,
-                             DwpAddressLookupService dwpAddressLookupService,
+    public SscsCaseValidator(PostcodeLookupCache postcodeLookupCache,
+                             DwpOfficeTable dwpOfficeTable,
                              PostcodeValidator postcodeValidator,
                              SscsJsonExtractor sscsJsonExtractor,
                              @Value("${feature.uc-office-feature.enabled}") boolean ucOfficeFeatureActive) {
-        this.regionalProcessingCenterService = regionalProcessingCenterService;
-        this.dwpAddressLookupService = dwpAddressLookupService;
+        this.postcodeLookupCache = postcodeLookupCache;
+        this.dwpOfficeTable = dwpOfficeTable;
         this.postcodeValidator = postcodeValidator;
         this.sscsJsonExtractor = sscsJsonExtractor;
         this.ucOfficeFeatureActive = ucOfficeFeatureActive;
+        this.plan = ValidationPlan.compile(rules());
     }
 
     public void setUcOfficeFeatureActive(boolean ucOfficeFeatureActive) {
@@ -99,6 +104,13 @@ public class SscsCaseValidator implements CaseValidator {
     @Override
     public CaseResponse validateExceptionRecord(CaseResponse transformResponse, ExceptionRecord exceptionRecord,
                                                 Map<String, Object> caseData, boolean combineWarnings) {
+        return validateExceptionRecord(transformResponse, exceptionRecord, caseData, combineWarnings, Revalidation.untracked());
+    }
+
+    @Override
+    public CaseResponse validateExceptionRecord(CaseResponse transformResponse, ExceptionRecord exceptionRecord,
+                                                Map<String, Object> caseData, boolean combineWarnings,
+                                                Revalidation revalidation) {
         warnings =
             transformResponse != null && transformResponse.getWarnings() != null ? transformResponse.getWarnings() :
                 new ArrayList<>();
@@ -108,7 +120,7 @@ public class SscsCaseValidator implements CaseValidator {
         ScannedData ocrCaseData = sscsJsonExtractor.extractJson(exceptionRecord);
 
         boolean ignoreWarningsValue = exceptionRecord.getIgnoreWarnings() != null ? exceptionRecord.getIgnoreWarnings() : false;
-        validateAppeal(ocrCaseData.getOcrCaseData(), caseData, false, ignoreWarningsValue, true, null);
+        validateAppeal(ocrCaseData.getOcrCaseData(), caseData, false, ignoreWarningsValue, null, revalidation);
 
         if (combineWarnings) {
             warnings = combineWarnings();
@@ -129,13 +141,19 @@ public class SscsCaseValidator implements CaseValidator {
 
     @Override
     public CaseResponse validateValidationRecord(Map<String, Object> caseData, boolean ignoreMrnValidation, EventType eventType) {
+        return validateValidationRecord(caseData, ignoreMrnValidation, eventType, Revalidation.untracked());
+    }
+
+    @Override
+    public CaseResponse validateValidationRecord(Map<String, Object> caseData, boolean ignoreMrnValidation, EventType eventType,
+                                                 Revalidation revalidation) {
         warnings = new ArrayList<>();
         errors = new ArrayList<>();
         callbackType = VALIDATION_CALLBACK;
 
         Map<String, Object> ocrCaseData = new HashMap<>();
 
-        validateAppeal(ocrCaseData, caseData, ignoreMrnValidation, false, false, eventType);
+        validateAppeal(ocrCaseData, caseData, ignoreMrnValidation, false, eventType, revalidation);
 
         return CaseResponse.builder()
             .errors(errors)
@@ -145,68 +163,103 @@ public class SscsCaseValidator implements CaseValidator {
     }
 
     private List<String> validateAppeal(Map<String, Object> ocrCaseData, Map<String, Object> caseData,
-                                        boolean ignoreMrnValidation, boolean ignoreWarnings, boolean ignorePartyRoleValidation, EventType eventType) {
+                                        boolean ignoreMrnValidation, boolean ignoreWarnings, EventType eventType,
+                                        Revalidation revalidation) {
 
         FormType formType = (FormType) caseData.get("formType");
         Appeal appeal = (Appeal) caseData.get("appeal");
-        String appellantPersonType = getPerson1OrPerson2(appeal.getAppellant());
+        log.info("Bulk-scan form type: {}", formType);
 
         final boolean isIbcOrSscs8 = isIbcOrSscs8(formType,
             Optional.ofNullable(appeal.getBenefitType()).orElse(BenefitType.builder().build()).getCode());
 
-        boolean validateIbcRoleField = FormType.SSCS8.equals(formType) && VALID_APPEAL.equals(eventType);
-        checkAppellant(
-            appeal,
-            ocrCaseData,
-            caseData,
-            appellantPersonType,
-            formType,
-            validateIbcRoleField,
-            ignorePartyRoleValidation,
-            ignoreWarnings,
-            isIbcOrSscs8
-        );
-        boolean isFromValidateAppealEvent = VALID_APPEAL.equals(eventType);
-        if (isIbcOrSscs8 && !isFromValidateAppealEvent) {
-            checkAppealReasons(appeal, ocrCaseData);
-        }
+        plan.run(callbackType, new ValidationRequest(ocrCaseData, caseData, formType, appeal,
+            getPerson1OrPerson2(appeal.getAppellant()), isIbcOrSscs8, ignoreMrnValidation, ignoreWarnings, eventType),
+            revalidation, warnings, errors);
 
-        checkRepresentative(appeal, ocrCaseData, caseData, isIbcOrSscs8);
-        checkMrnDetails(appeal, ocrCaseData, ignoreMrnValidation, formType);
-
-        if (formType != null && formType.equals(FormType.SSCS2)) {
-            checkChildMaintenance(caseData, ignoreWarnings);
-
-            checkOtherParty(caseData, ignoreWarnings);
-        }
-
-        checkExcludedDates(appeal);
-
-        isBenefitTypeValid(appeal, formType);
-
-        isHearingTypeValid(appeal);
-
-        checkHearingSubTypeIfHearingIsOral(appeal, caseData);
+        return warnings;
+    }
 
-        if (caseData.get("sscsDocument") != null) {
-            @SuppressWarnings("unchecked")
-            List<SscsDocument> lists = ((List<SscsDocument>) caseData.get("sscsDocument"));
-            checkAdditionalEvidence(lists);
-        }
+    /**
+     * Every check, in the order they run. The appellant's role is only checked on validation callbacks, as it is
+     * not asked for when an exception record is first validated. Whether the appellant and their representative
+     * are checked as IBC depends on the benefit type, so checks of them read it too. Checks that look at OCR fields
+     * of an exception record rather than its appeal read those fields as well.
+     */
+    private List<ValidationRule> rules() {
+        return List.of(
+            rule("appellant missing", this::checkAppellantMissing).reads(APPELLANT, BENEFIT_TYPE),
+            rule("appointee", withAppellant((request, appellant) -> checkAppointee(appellant, request.ocrCaseData(),
+                request.caseData(), request.isIbcOrSscs8()))).reads(APPELLANT, BENEFIT_TYPE).changesCaseData(),
+            rule("appellant name", withAppellant((request, appellant) -> checkPersonName(appellant.getName(),
+                request.appellantPersonType(), appellant, request.isIbcOrSscs8()))).reads(APPELLANT, BENEFIT_TYPE),
+            rule("appellant address and date of birth", withAppellant((request, appellant) -> checkPersonAddressAndDob(
+                appellant.getAddress(), appellant.getIdentity(), request.appellantPersonType(), request.ocrCaseData(),
+                request.caseData(), appellant, request.isIbcOrSscs8()))).reads(APPELLANT, BENEFIT_TYPE).changesCaseData(),
+            rule("appellant nino or IBCA reference", withAppellant(this::checkAppellantIdentity))
+                .reads(APPELLANT, BENEFIT_TYPE),
+            rule("IBC role", withAppellant((request, appellant) -> checkIbcRole(request.appellantPersonType(),
+                request.ocrCaseData(), appellant, VALID_APPEAL.equals(request.eventType()))))
+                .forForms(FormType.SSCS8).reads(APPELLANT, BENEFIT_TYPE, OCR_IBC_ROLES),
+            rule("appellant mobile", withAppellant((request, appellant) -> checkMobileNumber(appellant.getContact(),
+                request.appellantPersonType()))).reads(APPELLANT, BENEFIT_TYPE),
+            rule("hearing subtype details", withAppellant((request, appellant) ->
+                checkHearingSubtypeDetails(request.appeal().getHearingSubtype()))).reads(APPELLANT, HEARING_SUBTYPE),
+            rule("appellant role", withAppellant((request, appellant) -> checkAppellantRole(appellant.getRole(),
+                request.ignoreWarnings()))).forForms(FormType.SSCS2).forCallbacks(VALIDATION_CALLBACK)
+                .reads(APPELLANT, BENEFIT_TYPE),
+            rule("appeal reasons", this::checkAppealReasons).forEventsOtherThan(VALID_APPEAL)
+                .reads(APPEAL_REASONS, BENEFIT_TYPE, OCR_APPEAL_GROUNDS),
+            rule("representative", request -> checkRepresentative(request.appeal(), request.ocrCaseData(),
+                request.caseData(), request.isIbcOrSscs8())).reads(REPRESENTATIVE, APPELLANT, BENEFIT_TYPE)
+                .changesCaseData(),
+            rule("mrn date", request -> checkMrnDate(request.appeal(), request.ignoreMrnValidation())).reads(MRN_DETAILS),
+            rule("issuing office", request -> checkIssuingOffice(request.appeal(), request.ocrCaseData()))
+                .reads(MRN_DETAILS, BENEFIT_TYPE, OCR_ISSUING_OFFICE),
+            rule("issuing office missing", request -> checkIssuingOfficeMissing(request.appeal(), request.ocrCaseData()))
+                .forFormsOtherThan(FormType.SSCS2, FormType.SSCS5, FormType.SSCS8).reads(MRN_DETAILS, OCR_ISSUING_OFFICE),
+            rule("child maintenance number", request -> checkChildMaintenance(request.caseData(), request.ignoreWarnings()))
+                .forForms(FormType.SSCS2).reads(CHILD_MAINTENANCE_NUMBER).changesCaseData(),
+            rule("other party", request -> checkOtherParty(request.caseData(), request.ignoreWarnings()))
+                .forForms(FormType.SSCS2).reads(OTHER_PARTIES).changesCaseData(),
+            rule("excluded dates", request -> checkExcludedDates(request.appeal())).reads(HEARING_OPTIONS),
+            rule("benefit type", request -> checkBenefitType(request.appeal())).reads(BENEFIT_TYPE).changesCaseData(),
+            rule("IBC benefit type", request -> defaultIbcBenefitType(request.appeal()))
+                .forForms(FormType.SSCS8).reads(BENEFIT_TYPE).changesCaseData(),
+            rule("benefit type missing", request -> checkBenefitTypeMissing(request.appeal()))
+                .forFormsOtherThan(FormType.SSCS1U, FormType.SSCS5, FormType.SSCS8).reads(BENEFIT_TYPE),
+            rule("hearing type", request -> isHearingTypeValid(request.appeal())).reads(HEARING_TYPE),
+            rule("hearing subtype if oral", request -> checkHearingSubTypeIfHearingIsOral(request.appeal()))
+                .forForms(FormType.SSCS1PEU, FormType.SSCS2, FormType.SSCS5, FormType.SSCS8)
+                .reads(HEARING_TYPE, HEARING_SUBTYPE),
+            rule("additional evidence", request -> checkAdditionalEvidence(request.caseData())).reads(SSCS_DOCUMENT)
+        );
+    }
 
-        return warnings;
+    private static Consumer<ValidationRequest> withAppellant(BiConsumer<ValidationRequest, Appellant> check) {
+        return request -> {
+            Appellant appellant = request.appeal().getAppellant();
+            if (appellant != null) {
+                check.accept(request, appellant);
+            }
+        };
     }
 
     private void checkChildMaintenance(Map<String, Object> caseData, boolean ignoreWarnings) {
         String childMaintenanceNumber = (String) caseData.get("childMaintenanceNumber");
         if (!ignoreWarnings && StringUtils.isBlank(childMaintenanceNumber)) {
-            warnings.add(getMessageByCallbackType(callbackType, "", PERSON_1_CHILD_MAINTENANCE_NUMBER, IS_EMPTY));
+            warnings.add(WarningMessage.PERSON1_CHILD_MAINTENANCE_NUMBER.message(callbackType, "", IS_EMPTY));
         } else if (ignoreWarnings) {
             caseData.remove("childMaintenanceNumber");
         }
     }
 
-    private void checkAdditionalEvidence(List<SscsDocument> sscsDocuments) {
+    private void checkAdditionalEvidence(Map<String, Object> caseData) {
+        @SuppressWarnings("unchecked")
+        List<SscsDocument> sscsDocuments = (List<SscsDocument>) caseData.get("sscsDocument");
+        if (sscsDocuments == null) {
+            return;
+        }
         sscsDocuments.stream().filter(sscsDocument -> sscsDocument.getValue().getDocumentFileName() == null)
             .forEach(sscsDocument -> {
                 errors.add(
@@ -223,67 +276,48 @@ public class SscsCaseValidator implements CaseValidator {
             });
     }
 
-    private void checkAppellant(Appeal appeal, Map<String, Object> ocrCaseData, Map<String, Object> caseData,
-                                String personType, FormType formType, boolean validateIbcRoleField,
-                                boolean ignorePartyRoleValidation, boolean ignoreWarnings, boolean isIbcOrSscs8) {
-        Appellant appellant = appeal.getAppellant();
+    private void checkAppellantMissing(ValidationRequest request) {
+        Appellant appellant = request.appeal().getAppellant();
+        String personType = request.appellantPersonType();
 
         if (appellant == null) {
             warnings.add(
-                getMessageByCallbackType(callbackType, personType, getWarningMessageName(personType, appellant) + TITLE,
+                personMessage(personType, appellant, TITLE,
                     IS_EMPTY));
-            warnings.add(getMessageByCallbackType(callbackType, personType,
-                getWarningMessageName(personType, appellant) + FIRST_NAME, IS_EMPTY));
-            warnings.add(getMessageByCallbackType(callbackType, personType,
-                getWarningMessageName(personType, appellant) + LAST_NAME, IS_EMPTY));
-            warnings.add(getMessageByCallbackType(callbackType, personType,
-                getWarningMessageName(personType, appellant) + ADDRESS_LINE1, IS_EMPTY));
-            warnings.add(getMessageByCallbackType(callbackType, personType,
-                getWarningMessageName(personType, appellant) + ADDRESS_LINE3, IS_EMPTY));
-            warnings.add(getMessageByCallbackType(callbackType, personType,
-                getWarningMessageName(personType, appellant) + ADDRESS_LINE4, IS_EMPTY));
-            warnings.add(getMessageByCallbackType(callbackType, personType,
-                getWarningMessageName(personType, appellant) + ADDRESS_POSTCODE, IS_EMPTY));
+            warnings.add(personMessage(personType, appellant, FIRST_NAME, IS_EMPTY));
+            warnings.add(personMessage(personType, appellant, LAST_NAME, IS_EMPTY));
+            warnings.add(personMessage(personType, appellant, ADDRESS_LINE1, IS_EMPTY));
+            warnings.add(personMessage(personType, appellant, ADDRESS_LINE3, IS_EMPTY));
+            warnings.add(personMessage(personType, appellant, ADDRESS_LINE4, IS_EMPTY));
+            warnings.add(personMessage(personType, appellant, ADDRESS_POSTCODE, IS_EMPTY));
             warnings.add(
-                getMessageByCallbackType(callbackType, personType, getWarningMessageName(personType, appellant) + (isIbcOrSscs8 ? IBCA_REFERENCE : NINO),
+                personMessage(personType, appellant, request.isIbcOrSscs8() ? IBCA_REFERENCE : NINO,
                     IS_EMPTY));
-        } else {
-            checkAppointee(appellant, ocrCaseData, caseData, isIbcOrSscs8);
-
-            checkPersonName(appellant.getName(), personType, appellant, isIbcOrSscs8);
-
-            checkPersonAddressAndDob(appellant.getAddress(), appellant.getIdentity(), personType, ocrCaseData, caseData,
-                appellant, isIbcOrSscs8);
-
-            if (isIbcOrSscs8) {
-                checkAppellantIbcaReference(appellant, personType);
-            } else {
-                checkAppellantNino(appellant, personType);
-            }
-
-            if (FormType.SSCS8.equals(formType)) {
-                checkIbcRole(personType, ocrCaseData, appellant, validateIbcRoleField);
-            }
-
-            checkMobileNumber(appellant.getContact(), personType);
+        }
+    }
 
-            checkHearingSubtypeDetails(appeal.getHearingSubtype());
-            if (!ignorePartyRoleValidation && formType != null && formType.equals(FormType.SSCS2)) {
-                checkAppellantRole(appellant.getRole(), ignoreWarnings);
-            }
+    private void checkAppellantIdentity(ValidationRequest request, Appellant appellant) {
+        if (request.isIbcOrSscs8()) {
+            checkAppellantIbcaReference(appellant, request.appellantPersonType());
+        } else {
+            checkAppellantNino(appellant, request.appellantPersonType());
         }
     }
 
-    private void checkAppealReasons(Appeal appeal, Map<String, Object> ocrCaseData) {
-        AppealReasons appealReasons = appeal.getAppealReasons();
+    private void checkAppealReasons(ValidationRequest request) {
+        if (!request.isIbcOrSscs8()) {
+            return;
+        }
+        Map<String, Object> ocrCaseData = request.ocrCaseData();
+        AppealReasons appealReasons = request.appeal().getAppealReasons();
         if (appealReasons == null || appealReasons.getReasons() == null || appealReasons.getReasons().isEmpty()) {
-            warnings.add(getMessageByCallbackType(callbackType, "", APPEAL_GROUNDS,
+            warnings.add(WarningMessage.APPEAL_GROUNDS.message(callbackType, "",
                 IS_EMPTY));
         } else if (!ocrCaseData.isEmpty()) {
             boolean appealReasonBool = getBoolean(ocrCaseData, Collections.emptySet(), APPEAL_GROUNDS)
                 || getBoolean(ocrCaseData, Collections.emptySet(), APPEAL_GROUNDS_2);
             if (!appealReasonBool) {
-                warnings.add(getMessageByCallbackType(callbackType, "", APPEAL_GROUNDS,
+                warnings.add(WarningMessage.APPEAL_GROUNDS.message(callbackType, "",
                     IS_MISSING));
             }
         }
@@ -291,16 +325,16 @@ public class SscsCaseValidator implements CaseValidator {
 
     private void checkAppellantRole(Role role, boolean ignoreWarnings) {
         if (role == null && !ignoreWarnings) {
-            warnings.add(getMessageByCallbackType(callbackType, "", WarningMessage.APPELLANT_PARTY_NAME.toString(),
+            warnings.add(WarningMessage.APPELLANT_PARTY_NAME.message(callbackType, "",
                 IS_MISSING));
         } else if (!ignoreWarnings) {
             String name = role.getName();
             String description = role.getDescription();
             if (StringUtils.isEmpty(name)) {
-                warnings.add(getMessageByCallbackType(callbackType, "", WarningMessage.APPELLANT_PARTY_NAME.toString(),
+                warnings.add(WarningMessage.APPELLANT_PARTY_NAME.message(callbackType, "",
                     IS_MISSING));
             } else if (AppellantRole.OTHER.getName().equalsIgnoreCase(name) && StringUtils.isEmpty(description)) {
-                warnings.add(getMessageByCallbackType(callbackType, "", WarningMessage.APPELLANT_PARTY_DESCRIPTION.toString(),
+                warnings.add(WarningMessage.APPELLANT_PARTY_DESCRIPTION.message(callbackType, "",
                     IS_MISSING));
             }
         }
@@ -311,20 +345,20 @@ public class SscsCaseValidator implements CaseValidator {
             if (YES_LITERAL.equals(hearingSubtype.getWantsHearingTypeTelephone())
                 && hearingSubtype.getHearingTelephoneNumber() == null) {
 
-                warnings.add(getMessageByCallbackType(callbackType, "", HEARING_TYPE_TELEPHONE_LITERAL,
+                warnings.add(WarningMessage.HEARING_TYPE_TELEPHONE.message(callbackType, "",
                     PHONE_SELECTED_NOT_PROVIDED));
 
             } else if (hearingSubtype.getHearingTelephoneNumber() != null
                 && !isUkNumberValid(hearingSubtype.getHearingTelephoneNumber())) {
 
                 warnings
-                    .add(getMessageByCallbackType(callbackType, "", HEARING_TELEPHONE_NUMBER_MULTIPLE_LITERAL, null));
+                    .add(WarningMessage.HEARING_TELEPHONE_NUMBER_MULTIPLE.message(callbackType, "", null));
             }
 
             if (YES_LITERAL.equals(hearingSubtype.getWantsHearingTypeVideo())
                 && hearingSubtype.getHearingVideoEmail() == null) {
 
-                warnings.add(getMessageByCallbackType(callbackType, "", HEARING_TYPE_VIDEO_LITERAL,
+                warnings.add(WarningMessage.HEARING_TYPE_VIDEO.message(callbackType, "",
                     EMAIL_SELECTED_NOT_PROVIDED));
             }
         }
@@ -351,12 +385,11 @@ public class SscsCaseValidator implements CaseValidator {
             Name name = appeal.getRep().getName();
 
             if (!isTitleValid(name.getTitle())) {
-                warnings.add(getMessageByCallbackType(callbackType, REPRESENTATIVE_VALUE,
-                    getWarningMessageName(REPRESENTATIVE_VALUE, null) + TITLE, IS_INVALID));
+                warnings.add(personMessage(REPRESENTATIVE_VALUE, null, TITLE, IS_INVALID));
             }
 
             if (!doesFirstNameExist(name) && !doesLastNameExist(name) && appeal.getRep().getOrganisation() == null) {
-                warnings.add(getMessageByCallbackType(callbackType, "", REPRESENTATIVE_NAME_OR_ORGANISATION_DESCRIPTION,
+                warnings.add(WarningMessage.REPRESENTATIVE_NAME_OR_ORGANISATION.message(callbackType, "",
                     ARE_EMPTY));
             }
 
@@ -391,8 +424,7 @@ public class SscsCaseValidator implements CaseValidator {
     private void checkOtherPartyDataValid(Name name, Address address) {
         if (name != null && !isTitleValid(name.getTitle())) {
             warnings.add(
-                getMessageByCallbackType(callbackType, OTHER_PARTY_VALUE,
-                    getWarningMessageName(OTHER_PARTY_VALUE, null) + TITLE,
+                personMessage(OTHER_PARTY_VALUE, null, TITLE,
                     IS_INVALID));
         }
 
@@ -413,61 +445,61 @@ public class SscsCaseValidator implements CaseValidator {
 
     private void otherPartyAddressValidation(Address address) {
         if (!doesAddressLine1Exist(address)) {
-            warnings.add(getMessageByCallbackType(callbackType, OTHER_PARTY_VALUE,
-                getWarningMessageName(OTHER_PARTY_VALUE, null) + ADDRESS_LINE1, IS_EMPTY));
+            warnings.add(personMessage(OTHER_PARTY_VALUE, null, ADDRESS_LINE1, IS_EMPTY));
         }
 
         if (!doesAddressTownExist(address)) {
-            warnings.add(getMessageByCallbackType(callbackType, OTHER_PARTY_VALUE,
-                getWarningMessageName(OTHER_PARTY_VALUE, null) + ADDRESS_LINE2, IS_EMPTY));
+            warnings.add(personMessage(OTHER_PARTY_VALUE, null, ADDRESS_LINE2, IS_EMPTY));
         }
 
         if (!doesAddressPostcodeExist(address)) {
-            warnings.add(getMessageByCallbackType(callbackType, OTHER_PARTY_VALUE,
-                getWarningMessageName(OTHER_PARTY_VALUE, null) + ADDRESS_POSTCODE, IS_EMPTY));
+            warnings.add(personMessage(OTHER_PARTY_VALUE, null, ADDRESS_POSTCODE, IS_EMPTY));
         }
     }
 
     private void otherPartyNameValidation(Name name) {
         if (!doesFirstNameExist(name)) {
-            warnings.add(getMessageByCallbackType(callbackType, OTHER_PARTY_VALUE,
-                getWarningMessageName(OTHER_PARTY_VALUE, null) + FIRST_NAME, IS_EMPTY));
+            warnings.add(personMessage(OTHER_PARTY_VALUE, null, FIRST_NAME, IS_EMPTY));
         }
 
         if (!doesLastNameExist(name)) {
-            warnings.add(getMessageByCallbackType(callbackType, OTHER_PARTY_VALUE,
-                getWarningMessageName(OTHER_PARTY_VALUE, null) + LAST_NAME, IS_EMPTY));
+            warnings.add(personMessage(OTHER_PARTY_VALUE, null, LAST_NAME, IS_EMPTY));
         }
     }
 
-    private void checkMrnDetails(Appeal appeal, Map<String, Object> ocrCaseData, boolean ignoreMrnValidation, FormType formType) {
-
-        String dwpIssuingOffice = getDwpIssuingOffice(appeal, ocrCaseData);
-
+    private void checkMrnDate(Appeal appeal, boolean ignoreMrnValidation) {
         // if Appeal to Proceed direction type for direction Issue event and mrn date is blank then ignore mrn date validation
         if (!ignoreMrnValidation && !doesMrnDateExist(appeal)) {
-            warnings.add(getMessageByCallbackType(callbackType, "", MRN_DATE, IS_EMPTY));
+            warnings.add(WarningMessage.MRN_DATE.message(callbackType, "", IS_EMPTY));
         } else if (!ignoreMrnValidation) {
-            checkDateValidDate(appeal.getMrnDetails().getMrnDate(), MRN_DATE, "", true);
+            checkDateValidDate(appeal.getMrnDetails().getMrnDate(), WarningMessage.MRN_DATE, "", true);
         }
+    }
+
+    private void checkIssuingOffice(Appeal appeal, Map<String, Object> ocrCaseData) {
+        String dwpIssuingOffice = getDwpIssuingOffice(appeal, ocrCaseData);
 
         if (dwpIssuingOffice != null && appeal.getBenefitType() != null && appeal.getBenefitType().getCode() != null) {
 
             Optional<OfficeMapping> officeMapping = Optional.empty();
             //TODO: remove when ucOfficeFeatureActive fully enabled.
             if (!ucOfficeFeatureActive && Benefit.UC.getShortName().equals(appeal.getBenefitType().getCode())) {
-                officeMapping = dwpAddressLookupService.getDefaultDwpMappingByBenefitType(Benefit.UC.getShortName());
+                officeMapping = dwpOfficeTable.getDefaultDwpMappingByBenefitType(Benefit.UC.getShortName());
             } else {
                 officeMapping =
-                    dwpAddressLookupService.getDwpMappingByOffice(appeal.getBenefitType().getCode(), dwpIssuingOffice);
+                    dwpOfficeTable.getDwpMappingByOffice(appeal.getBenefitType().getCode(), dwpIssuingOffice);
             }
 
             if (!officeMapping.isPresent()) {
                 log.info("DwpHandling handling office is not valid");
-                warnings.add(getMessageByCallbackType(callbackType, "", ISSUING_OFFICE, IS_INVALID));
+                warnings.add(WarningMessage.OFFICE.message(callbackType, "", IS_INVALID));
             }
-        } else if (dwpIssuingOffice == null && !FormType.SSCS2.equals(formType) && !FormType.SSCS5.equals(formType) && !FormType.SSCS8.equals(formType)) {
-            warnings.add(getMessageByCallbackType(callbackType, "", ISSUING_OFFICE, IS_EMPTY));
+        }
+    }
+
+    private void checkIssuingOfficeMissing(Appeal appeal, Map<String, Object> ocrCaseData) {
+        if (getDwpIssuingOffice(appeal, ocrCaseData) == null) {
+            warnings.add(WarningMessage.OFFICE.message(callbackType, "", IS_EMPTY));
         }
     }
 
@@ -485,22 +517,20 @@ public class SscsCaseValidator implements CaseValidator {
         if (!isIbcOrSscs8) {
             if (!doesTitleExist(name)) {
                 warnings.add(
-                    getMessageByCallbackType(callbackType, personType, getWarningMessageName(personType, appellant) + TITLE,
+                    personMessage(personType, appellant, TITLE,
                         IS_EMPTY));
             } else if (name != null && !isTitleValid(name.getTitle())) {
                 warnings.add(
-                    getMessageByCallbackType(callbackType, personType, getWarningMessageName(personType, appellant) + TITLE,
+                    personMessage(personType, appellant, TITLE,
                         IS_INVALID));
             }
         }
 
         if (!doesFirstNameExist(name)) {
-            warnings.add(getMessageByCallbackType(callbackType, personType,
-                getWarningMessageName(personType, appellant) + FIRST_NAME, IS_EMPTY));
+            warnings.add(personMessage(personType, appellant, FIRST_NAME, IS_EMPTY));
         }
         if (!doesLastNameExist(name)) {
-            warnings.add(getMessageByCallbackType(callbackType, personType,
-                getWarningMessageName(personType, appellant) + LAST_NAME, IS_EMPTY));
+            warnings.add(personMessage(personType, appellant, LAST_NAME, IS_EMPTY));
         }
     }
 
@@ -545,41 +575,33 @@ public class SscsCaseValidator implements CaseValidator {
         }
 
         if (!doesAddressLine1Exist(address)) {
-            warnings.add(getMessageByCallbackType(callbackType, personType,
-                getWarningMessageName(personType, appellant) + ADDRESS_LINE1, IS_EMPTY));
+            warnings.add(personMessage(personType, appellant, ADDRESS_LINE1, IS_EMPTY));
         } else if (!address.getLine1().matches(ADDRESS_REGEX)) {
-            warnings.add(getMessageByCallbackType(callbackType, personType,
-                getWarningMessageName(personType, appellant) + ADDRESS_LINE1, HAS_INVALID_ADDRESS));
+            warnings.add(personMessage(personType, appellant, ADDRESS_LINE1, HAS_INVALID_ADDRESS));
         }
 
         if (!isIbcOrSscs8) {
             String townLine = (isAddressLine4Present) ? ADDRESS_LINE3 : ADDRESS_LINE2;
             if (!doesAddressTownExist(address)) {
 
-                warnings.add(getMessageByCallbackType(callbackType, personType,
-                    getWarningMessageName(personType, appellant) + townLine, IS_EMPTY));
+                warnings.add(personMessage(personType, appellant, townLine, IS_EMPTY));
             } else if (!address.getTown().matches(ADDRESS_REGEX)) {
-                warnings.add(getMessageByCallbackType(callbackType, personType,
-                    getWarningMessageName(personType, appellant) + townLine, HAS_INVALID_ADDRESS));
+                warnings.add(personMessage(personType, appellant, townLine, HAS_INVALID_ADDRESS));
             }
             // Removed from IBC as it's not on the SSCS8 form
             String countyLine = (isAddressLine4Present) ? ADDRESS_LINE4 : "_ADDRESS_LINE3_COUNTY";
             if (!doesAddressCountyExist(address)) {
-                warnings.add(getMessageByCallbackType(callbackType, personType,
-                    getWarningMessageName(personType, appellant) + countyLine, IS_EMPTY));
+                warnings.add(personMessage(personType, appellant, countyLine, IS_EMPTY));
             } else if (!address.getCounty().matches(COUNTY_REGEX)) {
-                warnings.add(getMessageByCallbackType(callbackType, personType,
-                    getWarningMessageName(personType, appellant) + countyLine, HAS_INVALID_ADDRESS));
+                warnings.add(personMessage(personType, appellant, countyLine, HAS_INVALID_ADDRESS));
             }
         } else {
             boolean hasLine3 = findBooleanExists(getField(ocrCaseData, personType + ADDRESS_LINE3));
             String townLine = (hasLine3) ? ADDRESS_LINE3 : ADDRESS_LINE2;
             if (!doesAddressTownExist(address)) {
-                warnings.add(getMessageByCallbackType(callbackType, personType,
-                    getWarningMessageName(personType, appellant) + townLine, IS_EMPTY));
+                warnings.add(personMessage(personType, appellant, townLine, IS_EMPTY));
             } else if (!address.getTown().matches(ADDRESS_REGEX)) {
-                warnings.add(getMessageByCallbackType(callbackType, personType,
-                    getWarningMessageName(personType, appellant) + townLine, HAS_INVALID_ADDRESS));
+                warnings.add(personMessage(personType, appellant, townLine, HAS_INVALID_ADDRESS));
             }
         }
 
@@ -588,7 +610,7 @@ public class SscsCaseValidator implements CaseValidator {
                 boolean isPort = YesNo.NO.equals(address.getInMainlandUk());
                 String postCodeOrPort = isPort ? address.getPortOfEntry() : address.getPostcode();
 
-                RegionalProcessingCenter rpc = regionalProcessingCenterService.getByPostcode(postCodeOrPort, isIbcOrSscs8);
+                RegionalProcessingCenter rpc = postcodeLookupCache.getRpcByPostcode(postCodeOrPort, isIbcOrSscs8);
 
                 if (rpc != null) {
                     if (isIbcOrSscs8) {
@@ -597,14 +619,13 @@ public class SscsCaseValidator implements CaseValidator {
                     caseData.put("region", rpc.getName());
                     caseData.put("regionalProcessingCenter", rpc);
                 } else if (!isPort) {
-                    warnings.add(getMessageByCallbackType(callbackType, personType,
-                        getWarningMessageName(personType, appellant) + ADDRESS_POSTCODE,
-                        "is not a postcode that maps to a regional processing center"));
+                    warnings.add(personMessage(personType, appellant, ADDRESS_POSTCODE,
+                        IS_NOT_MAPPED_TO_A_REGIONAL_PROCESSING_CENTER));
                 }
             }
         }
         if (identity != null) {
-            checkDateValidDate(identity.getDob(), getWarningMessageName(personType, appellant) + DOB, personType, true);
+            checkDateValidDate(identity.getDob(), WarningMessage.of(getWarningMessageName(personType, appellant), DOB), personType, true);
         }
     }
 
@@ -699,15 +720,14 @@ public class SscsCaseValidator implements CaseValidator {
             if (postcodeValidator.isValidPostcodeFormat(address.getPostcode())) {
                 boolean isValidPostcode = postcodeValidator.isValid(address.getPostcode());
                 if (!isValidPostcode) {
-                    warnings.add(getMessageByCallbackType(callbackType, personType, getWarningMessageName(personType, appellant) + ADDRESS_POSTCODE, IS_NOT_A_VALID_POSTCODE));
+                    warnings.add(personMessage(personType, appellant, ADDRESS_POSTCODE, IS_NOT_A_VALID_POSTCODE));
                 }
                 return isValidPostcode;
             }
-            errors.add(getMessageByCallbackType(callbackType, personType, getWarningMessageName(personType, appellant) + ADDRESS_POSTCODE, "is not in a valid format"));
+            errors.add(personMessage(personType, appellant, ADDRESS_POSTCODE, IS_NOT_IN_A_VALID_FORMAT));
             return false;
         }
-        warnings.add(getMessageByCallbackType(callbackType, personType,
-            getWarningMessageName(personType, appellant) + ADDRESS_POSTCODE, IS_EMPTY));
+        warnings.add(personMessage(personType, appellant, ADDRESS_POSTCODE, IS_EMPTY));
         return false;
     }
 
@@ -715,12 +735,11 @@ public class SscsCaseValidator implements CaseValidator {
         if (appellant != null && appellant.getIdentity() != null && appellant.getIdentity().getNino() != null) {
             if (!appellant.getIdentity().getNino().matches(
                 "^(?!BG)(?!GB)(?!NK)(?!KN)(?!TN)(?!NT)(?!ZZ)\\s?(?:[A-CEGHJ-PR-TW-Z]\\s?[A-CEGHJ-NPR-TW-Z])\\s?(?:\\d\\s?){6}([A-D]|\\s)\\s?$")) {
-                warnings.add(getMessageByCallbackType(callbackType, personType,
-                    getWarningMessageName(personType, appellant) + NINO, IS_INVALID));
+                warnings.add(personMessage(personType, appellant, NINO, IS_INVALID));
             }
         } else {
             warnings.add(
-                getMessageByCallbackType(callbackType, personType, getWarningMessageName(personType, appellant) + NINO,
+                personMessage(personType, appellant, NINO,
                     IS_EMPTY));
         }
     }
@@ -729,31 +748,24 @@ public class SscsCaseValidator implements CaseValidator {
         if (appellant != null && appellant.getIdentity() != null && appellant.getIdentity().getIbcaReference() != null) {
             if (!String.join("", appellant.getIdentity().getIbcaReference().split(" ")).matches(
                 "^[A-z]\\d{2}[A-z]\\d{2}$")) {
-                warnings.add(getMessageByCallbackType(callbackType, personType,
-                    getWarningMessageName(personType, appellant) + IBCA_REFERENCE, IS_INVALID));
+                warnings.add(personMessage(personType, appellant, IBCA_REFERENCE, IS_INVALID));
             }
         } else {
             warnings.add(
-                getMessageByCallbackType(callbackType, personType, getWarningMessageName(personType, appellant) + IBCA_REFERENCE,
+                personMessage(personType, appellant, IBCA_REFERENCE,
                     IS_EMPTY));
         }
     }
 
-    private void checkDateValidDate(String dateField, String fieldName, String personType, Boolean isInFutureCheck) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
+    private void checkDateValidDate(String dateField, WarningMessage message, String personType, Boolean isInFutureCheck) {
         if (!StringUtils.isEmpty(dateField)) {
-            try {
-                LocalDate date = LocalDate.parse(dateField, formatter);
-
-                if (isInFutureCheck && date.isAfter(LocalDate.now())) {
-                    warnings.add(getMessageByCallbackType(callbackType, personType, fieldName, IS_IN_FUTURE));
-                } else if (!isInFutureCheck && date.isBefore(LocalDate.now())) {
-                    warnings.add(getMessageByCallbackType(callbackType, personType, fieldName, IS_IN_PAST));
-
-                }
-            } catch (DateTimeParseException ex) {
-                log.error("Date time error", ex);
+            LocalDate date = OcrDateParser.parseCcdDate(dateField);
+            if (date == null) {
+                log.error("Date time error, {} is not a valid date", dateField);
+            } else if (isInFutureCheck && date.isAfter(LocalDate.now())) {
+                warnings.add(message.message(callbackType, personType, IS_IN_FUTURE));
+            } else if (!isInFutureCheck && date.isBefore(LocalDate.now())) {
+                warnings.add(message.message(callbackType, personType, IS_IN_PAST));
             }
         }
     }
@@ -817,16 +829,15 @@ public class SscsCaseValidator implements CaseValidator {
             && name.getTitle() == null);
     }
 
-    private void isBenefitTypeValid(Appeal appeal, FormType formType) {
-        BenefitType benefitType = appeal.getBenefitType();
-        if (benefitType != null && benefitType.getCode() != null) {
-            final Optional<Benefit> benefitOptional = Benefit.findBenefitByShortName(benefitType.getCode());
+    private void checkBenefitType(Appeal appeal) {
+        if (hasBenefitCode(appeal)) {
+            final Optional<Benefit> benefitOptional = Benefit.findBenefitByShortName(appeal.getBenefitType().getCode());
             if (benefitOptional.isEmpty()) {
                 List<String> benefitNameList = new ArrayList<>();
                 for (Benefit be : Benefit.values()) {
                     benefitNameList.add(be.getShortName());
                 }
-                errors.add(getMessageByCallbackType(callbackType, "", BENEFIT_TYPE_DESCRIPTION,
+                errors.add(WarningMessage.BENEFIT_TYPE_DESCRIPTION.message(callbackType, "",
                     "invalid. Should be one of: " + String.join(", ", benefitNameList)));
             } else {
                 Benefit benefit = benefitOptional.get();
@@ -835,37 +846,43 @@ public class SscsCaseValidator implements CaseValidator {
                     .description(benefit.getDescription())
                     .build());
             }
-        } else {
-            if (FormType.SSCS8.equals(formType)) {
-                appeal.setBenefitType(BenefitType.builder()
-                    .description(Benefit.INFECTED_BLOOD_COMPENSATION.getDescription())
-                    .code(Benefit.INFECTED_BLOOD_COMPENSATION.getShortName())
-                    .build());
-            }
-            if (formType == null || (!formType.equals(FormType.SSCS1U) && !formType.equals(FormType.SSCS5) && !formType.equals(FormType.SSCS8))) {
-                warnings.add(getMessageByCallbackType(callbackType, "", BENEFIT_TYPE_DESCRIPTION, IS_EMPTY));
-            }
         }
     }
 
+    private void defaultIbcBenefitType(Appeal appeal) {
+        if (!hasBenefitCode(appeal)) {
+            appeal.setBenefitType(BenefitType.builder()
+                .description(Benefit.INFECTED_BLOOD_COMPENSATION.getDescription())
+                .code(Benefit.INFECTED_BLOOD_COMPENSATION.getShortName())
+                .build());
+        }
+    }
+
+    private void checkBenefitTypeMissing(Appeal appeal) {
+        if (!hasBenefitCode(appeal)) {
+            warnings.add(WarningMessage.BENEFIT_TYPE_DESCRIPTION.message(callbackType, "", IS_EMPTY));
+        }
+    }
+
+    private boolean hasBenefitCode(Appeal appeal) {
+        return appeal.getBenefitType() != null && appeal.getBenefitType().getCode() != null;
+    }
+
     private void isHearingTypeValid(Appeal appeal) {
         String hearingType = appeal.getHearingType();
 
         if (hearingType == null
             || (!hearingType.equals(HEARING_TYPE_ORAL) && !hearingType.equals(HEARING_TYPE_PAPER))) {
-            warnings.add(getMessageByCallbackType(callbackType, "", HEARING_TYPE_DESCRIPTION, IS_INVALID));
+            warnings.add(WarningMessage.HEARING_TYPE.message(callbackType, "", IS_INVALID));
         }
     }
 
-    private void checkHearingSubTypeIfHearingIsOral(Appeal appeal, Map<String, Object> caseData) {
+    private void checkHearingSubTypeIfHearingIsOral(Appeal appeal) {
         String hearingType = appeal.getHearingType();
-        FormType formType = (FormType) caseData.get("formType");
-        log.info("Bulk-scan form type: {}", formType != null ? formType.toString() : null);
-        if ((FormType.SSCS1PEU.equals(formType) || FormType.SSCS2.equals(formType) || FormType.SSCS5.equals(formType) || FormType.SSCS8.equals(formType))
-            && hearingType != null && hearingType.equals(HEARING_TYPE_ORAL)
+        if (hearingType != null && hearingType.equals(HEARING_TYPE_ORAL)
             && !isValidHearingSubType(appeal)) {
             warnings.add(
-                getMessageByCallbackType(callbackType, "", HEARING_SUB_TYPE_TELEPHONE_OR_VIDEO_FACE_TO_FACE_DESCRIPTION,
+                WarningMessage.HEARING_SUB_TYPE_TELEPHONE_OR_VIDEO_FACE_TO_FACE.message(callbackType, "",
                     ARE_EMPTY));
         }
     }
@@ -884,7 +901,7 @@ public class SscsCaseValidator implements CaseValidator {
     private void checkExcludedDates(Appeal appeal) {
         if (appeal.getHearingOptions() != null && appeal.getHearingOptions().getExcludeDates() != null) {
             for (ExcludeDate excludeDate : appeal.getHearingOptions().getExcludeDates()) {
-                checkDateValidDate(excludeDate.getValue().getStart(), HEARING_OPTIONS_EXCLUDE_DATES_LITERAL, "", false);
+                checkDateValidDate(excludeDate.getValue().getStart(), WarningMessage.HEARING_OPTIONS_EXCLUDE_DATES, "", false);
             }
         }
     }
@@ -892,7 +909,7 @@ public class SscsCaseValidator implements CaseValidator {
     private void checkMobileNumber(Contact contact, String personType) {
         if (contact != null && contact.getMobile() != null && !isMobileNumberValid(contact.getMobile())) {
             errors.add(
-                getMessageByCallbackType(callbackType, personType, getWarningMessageName(personType, null) + MOBILE,
+                personMessage(personType, null, MOBILE,
                     IS_INVALID));
         }
     }
@@ -911,6 +928,10 @@ public class SscsCaseValidator implements CaseValidator {
         return true;
     }
 
+    private String personMessage(String personType, Appellant appellant, String field, String endMessage) {
+        return WarningMessage.of(getWarningMessageName(personType, appellant), field).message(callbackType, personType, endMessage);
+    }
+
     private String getWarningMessageName(String personType, Appellant appellant) {
         if (personType.equals(REPRESENTATIVE_VALUE)) {
             return "REPRESENTATIVE";
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.sscs.validators;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+import uk.gov.hmcts.reform.sscs.domain.CallbackType;
+
+/**
+ * The rules that apply to each form type and callback type, in the order they were declared, worked out once from
+ * the full list so that validating a record only runs the rules that apply to it. Events are left to each rule, as
+ * a request only has one and most rules apply to all of them.
+ */
+final class ValidationPlan {
+
+    private final Map<CallbackType, Map<FormType, List<ValidationRule>>> byFormType = new EnumMap<>(CallbackType.class);
+    private final Map<CallbackType, List<ValidationRule>> withoutFormType = new EnumMap<>(CallbackType.class);
+
+    private ValidationPlan(List<ValidationRule> rules) {
+        for (CallbackType callbackType : CallbackType.values()) {
+            Map<FormType, List<ValidationRule>> plans = new EnumMap<>(FormType.class);
+            for (FormType formType : FormType.values()) {
+                plans.put(formType, applicable(rules, callbackType, formType));
+            }
+            byFormType.put(callbackType, plans);
+            withoutFormType.put(callbackType, applicable(rules, callbackType, null));
+        }
+    }
+
+    static ValidationPlan compile(List<ValidationRule> rules) {
+        return new ValidationPlan(rules);
+    }
+
+    List<ValidationRule> rules(CallbackType callbackType, FormType formType) {
+        return formType != null ? byFormType.get(callbackType).get(formType) : withoutFormType.get(callbackType);
+    }
+
+    void run(CallbackType callbackType, ValidationRequest request) {
+        for (ValidationRule rule : rules(callbackType, request.formType())) {
+            rule.run(request);
+        }
+    }
+
+    /**
+     * Runs the rules, giving the warnings and errors a reusable rule raised last time if its fields are unchanged.
+     */
+    void run(CallbackType callbackType, ValidationRequest request, Revalidation revalidation, List<String> warnings,
+             List<String> errors) {
+        if (!revalidation.isTracked()) {
+            run(callbackType, request);
+            return;
+        }
+        for (ValidationRule rule : rules(callbackType, request.formType())) {
+            if (rule.reusable()) {
+                Messages messages = revalidation.reuseOr(rule.name(), rule.fields(),
+                    () -> collect(rule, request, warnings, errors));
+                warnings.addAll(messages.warnings());
+                errors.addAll(messages.errors());
+            } else {
+                rule.run(request);
+            }
+        }
+    }
+
+    // Takes back what the rule added, so that run and reused messages are added the same way
+    private static Messages collect(ValidationRule rule, ValidationRequest request, List<String> warnings,
+                                    List<String> errors) {
+        int warningsBefore = warnings.size();
+        int errorsBefore = errors.size();
+        rule.run(request);
+        List<String> added = warnings.subList(warningsBefore, warnings.size());
+        List<String> addedErrors = errors.subList(errorsBefore, errors.size());
+        Messages messages = new Messages(new ArrayList<>(added), new ArrayList<>(addedErrors));
+        added.clear();
+        addedErrors.clear();
+        return messages;
+    }
+
+    private static List<ValidationRule> applicable(List<ValidationRule> rules, CallbackType callbackType, FormType formType) {
+        List<ValidationRule> applicable = new ArrayList<>();
+        for (ValidationRule rule : rules) {
+            if (rule.appliesTo(callbackType, formType)) {
+                applicable.add(rule);
+            }
+        }
+        return List.copyOf(applicable);
+    }
+
+    private record Messages(List<String> warnings, List<String> errors) {
+    }
+}
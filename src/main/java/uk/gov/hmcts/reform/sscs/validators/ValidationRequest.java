@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.sscs.validators;
+
+import java.util.Map;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Appeal;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+
+/**
+ * What the rules of a {@link ValidationPlan} are run against, worked out once per validation.
+ */
+record ValidationRequest(Map<String, Object> ocrCaseData,
+                         Map<String, Object> caseData,
+                         FormType formType,
+                         Appeal appeal,
+                         String appellantPersonType,
+                         boolean isIbcOrSscs8,
+                         boolean ignoreMrnValidation,
+                         boolean ignoreWarnings,
+                         EventType eventType) {
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.sscs.validators;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+import uk.gov.hmcts.reform.sscs.domain.CallbackType;
+
+/**
+ * One check made when validating an appeal, with the form types, callback types and events it applies to and the
+ * case data fields it reads. Rules start out applying to everything and are narrowed with the {@code for} methods,
+ * so a rule says once where it applies instead of checking the form type or event itself.
+ *
+ * <p>A record with no form type gets the rules for every form and for every form but some, as a form type
+ * comparison in a check would have done.
+ *
+ * <p>The warnings and errors of a rule that only reads its fields are reused when a record is validated again with
+ * those fields unchanged, see {@link Revalidation}. A rule that changes the case data says so and is always run.
+ */
+record ValidationRule(String name,
+                      Set<FormType> formTypes,
+                      boolean withoutFormType,
+                      Set<CallbackType> callbackTypes,
+                      Predicate<EventType> events,
+                      Set<CaseDataField> fields,
+                      boolean reusable,
+                      Consumer<ValidationRequest> check) {
+
+    static ValidationRule rule(String name, Consumer<ValidationRequest> check) {
+        return new ValidationRule(name, EnumSet.allOf(FormType.class), true, EnumSet.allOf(CallbackType.class),
+            eventType -> true, EnumSet.noneOf(CaseDataField.class), true, check);
+    }
+
+    ValidationRule forForms(FormType first, FormType... rest) {
+        return new ValidationRule(name, EnumSet.of(first, rest), false, callbackTypes, events, fields, reusable,
+            check);
+    }
+
+    ValidationRule forFormsOtherThan(FormType first, FormType... rest) {
+        return new ValidationRule(name, EnumSet.complementOf(EnumSet.of(first, rest)), true, callbackTypes, events,
+            fields, reusable, check);
+    }
+
+    ValidationRule forCallbacks(CallbackType first, CallbackType... rest) {
+        return new ValidationRule(name, formTypes, withoutFormType, EnumSet.of(first, rest), events, fields,
+            reusable, check);
+    }
+
+    ValidationRule forEventsOtherThan(EventType eventType) {
+        return new ValidationRule(name, formTypes, withoutFormType, callbackTypes, event -> event != eventType, fields,
+            reusable, check);
+    }
+
+    ValidationRule reads(CaseDataField first, CaseDataField... rest) {
+        return new ValidationRule(name, formTypes, withoutFormType, callbackTypes, events, EnumSet.of(first, rest),
+            reusable, check);
+    }
+
+    ValidationRule changesCaseData() {
+        return new ValidationRule(name, formTypes, withoutFormType, callbackTypes, events, fields, false, check);
+    }
+
+    boolean appliesTo(CallbackType callbackType, FormType formType) {
+        return callbackTypes.contains(callbackType) && (formType != null ? formTypes.contains(formType) : withoutFormType);
+    }
+
+    void run(ValidationRequest request) {
+        if (events.test(request.eventType())) {
+            check.accept(request);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
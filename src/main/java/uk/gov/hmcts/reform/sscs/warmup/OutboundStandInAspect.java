@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.sscs.warmup;
+
+import java.util.List;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+
+/**
+ * Answers the outbound calls made by the pipeline while {@link WarmupContext} is active, as if the case were new and
+ * every dependency were healthy. Runs ahead of the dependency metrics so warmup calls are not recorded.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OutboundStandInAspect {
+
+    @Around("execution(* uk.gov.hmcts.reform.sscs.ccd.service.CcdService.findCaseBy(..))")
+    public Object ccdFindCaseBy(ProceedingJoinPoint joinPoint) throws Throwable {
+        return WarmupContext.isActive() ? List.of() : joinPoint.proceed();
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.sscs.ccd.service.CcdService.findCcdCaseByNinoAndBenefitTypeAndMrnDate(..))")
+    public Object ccdFindDuplicateCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return WarmupContext.isActive() ? null : joinPoint.proceed();
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.sscs.idam.IdamService.getIdamTokens(..))")
+    public Object idamTokens(ProceedingJoinPoint joinPoint) throws Throwable {
+        return WarmupContext.isActive() ? IdamTokens.builder().build() : joinPoint.proceed();
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.sscs.validators.PostcodeValidator.isValid(..))")
+    public Object postcodeValidation(ProceedingJoinPoint joinPoint) throws Throwable {
+        return WarmupContext.isActive() ? Boolean.TRUE : joinPoint.proceed();
+    }
+
+    @Around("execution(* uk.gov.hmcts.reform.sscs.service.RefDataService.getCourtVenueRefDataByEpimsId(..))")
+    public Object locationRefCourtVenue(ProceedingJoinPoint joinPoint) throws Throwable {
+        return WarmupContext.isActive() ? null : joinPoint.proceed();
+    }
+}
@@ -0,0 +1,113 @@
+package uk.gov.hmcts.reform.sscs.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ExceptionRecord;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.OcrDataField;
+import uk.gov.hmcts.reform.sscs.bulkscancore.handlers.CcdCallbackHandler;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+
+/**
+ * Runs synthetic exception records for every form type through validate-ocr and transformation before the
+ * application takes traffic, so bean creation, schema loading, fuzzy matching set up, Jackson serialisers and the
+ * JIT are paid for here rather than by the first real requests. Runners finish before Spring Boot reports the
+ * readiness probe as accepting traffic, so the probe only goes UP once warmup is over.
+ *
+ * <p>Outbound calls are answered by {@link OutboundStandInAspect}. A failure is logged and never stops startup.
+ */
+@Slf4j
+@Component
+public class PipelineWarmup implements ApplicationRunner {
+
+    private final CcdCallbackHandler handler;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int iterations;
+
+    public PipelineWarmup(CcdCallbackHandler handler,
+                          ObjectMapper objectMapper,
+                          @Value("${warmup.enabled:true}") boolean enabled,
+                          @Value("${warmup.iterations:3}") int iterations) {
+        this.handler = handler;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        int failures = WarmupContext.call(this::warmAllFormTypes);
+        log.info("Warmup finished in {} ms with {} iterations per form type and {} failures",
+            Duration.ofNanos(System.nanoTime() - start).toMillis(), iterations, failures);
+    }
+
+    private int warmAllFormTypes() {
+        int failures = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (FormType formType : FormType.values()) {
+                if (FormType.UNKNOWN != formType) {
+                    failures += warm(exceptionRecord(formType, i));
+                }
+            }
+        }
+        return failures;
+    }
+
+    private int warm(ExceptionRecord exceptionRecord) {
+        int failures = 0;
+        try {
+            objectMapper.writeValueAsBytes(handler.handleValidation(exceptionRecord));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("Warmup validation of {} failed", exceptionRecord.getFormType(), e);
+            failures++;
+        }
+        try {
+            objectMapper.writeValueAsBytes(handler.handle(exceptionRecord));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Synthetic records for some form types are expected to be rejected, which is still a full run
+            log.debug("Warmup transformation of {} failed", exceptionRecord.getFormType(), e);
+        }
+        return failures;
+    }
+
+    static ExceptionRecord exceptionRecord(FormType formType, int iteration) {
+        List<OcrDataField> fields = new ArrayList<>();
+        fields.add(new OcrDataField("person1_title", "Mr"));
+        fields.add(new OcrDataField("person1_first_name", "Warm"));
+        fields.add(new OcrDataField("person1_last_name", "Up"));
+        fields.add(new OcrDataField("person1_dob", "10/10/2000"));
+        fields.add(new OcrDataField("person1_address_line1", "1 Street"));
+        fields.add(new OcrDataField("person1_address_line2", "Victoria Street"));
+        fields.add(new OcrDataField("person1_address_line3", "London"));
+        fields.add(new OcrDataField("person1_postcode", "CF48 2HY"));
+        fields.add(new OcrDataField("person1_nino", "BB000000B"));
+        // Varies per iteration so every run builds the appeal rather than replaying a cached one
+        fields.add(new OcrDataField("person1_mobile", String.format("07700900%03d", iteration % 1000)));
+        fields.add(new OcrDataField("office", "3"));
+        fields.add(new OcrDataField("benefit_type_description", "PIP"));
+        fields.add(new OcrDataField("is_hearing_type_oral", "true"));
+        fields.add(new OcrDataField("is_hearing_type_paper", "false"));
+        fields.add(new OcrDataField("mrn_date", "23/4/2020"));
+        fields.add(new OcrDataField("hearing_type_video", "true"));
+
+        return ExceptionRecord.builder()
+            .exceptionRecordId("warmup-" + formType.getId() + "-" + iteration)
+            .formType(formType.getId())
+            .ocrDataFields(fields)
+            .scannedDocuments(List.of())
+            .isAutomatedProcess(false)
+            .build();
+    }
+}
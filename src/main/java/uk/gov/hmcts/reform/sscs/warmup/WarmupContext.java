@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.sscs.warmup;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the thread running the startup warmup, so outbound calls are answered by stand-ins and nothing learnt from
+ * synthetic records is kept, published as a metric or logged below WARN.
+ */
+public final class WarmupContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private WarmupContext() {
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+
+    static <T> T call(Supplier<T> work) {
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package uk.gov.hmcts.reform.sscs.bulkscancore.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mockingDetails;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.CaseResponse;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ExceptionRecord;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.OcrDataField;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ScannedData;
+import uk.gov.hmcts.reform.sscs.bulkscancore.transformers.CaseTransformer;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Address;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Appeal;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Appellant;
+import uk.gov.hmcts.reform.sscs.ccd.domain.BenefitType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.CaseManagementLocation;
+import uk.gov.hmcts.reform.sscs.ccd.domain.DocumentLink;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.HearingSubtype;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Identity;
+import uk.gov.hmcts.reform.sscs.ccd.domain.MrnDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Name;
+import uk.gov.hmcts.reform.sscs.ccd.domain.RegionalProcessingCenter;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Representative;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsDocument;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsDocumentDetails;
+import uk.gov.hmcts.reform.sscs.ccd.domain.State;
+import uk.gov.hmcts.reform.sscs.domain.CaseEvent;
+import uk.gov.hmcts.reform.sscs.helper.AppealPostcodeHelper;
+import uk.gov.hmcts.reform.sscs.helper.OcrDataBuilder;
+import uk.gov.hmcts.reform.sscs.helper.SscsDataHelper;
+import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+import uk.gov.hmcts.reform.sscs.json.SscsJsonExtractor;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineMetrics;
+import uk.gov.hmcts.reform.sscs.service.AirLookupService;
+import uk.gov.hmcts.reform.sscs.service.CaseManagementLocationService;
+import uk.gov.hmcts.reform.sscs.service.DwpAddressLookupService;
+import uk.gov.hmcts.reform.sscs.service.DwpOfficeTable;
+import uk.gov.hmcts.reform.sscs.service.PostcodeLookupCache;
+import uk.gov.hmcts.reform.sscs.service.RegionalProcessingCenterService;
+import uk.gov.hmcts.reform.sscs.validators.PostcodeValidator;
+import uk.gov.hmcts.reform.sscs.validators.RevalidationCache;
+import uk.gov.hmcts.reform.sscs.validators.SscsCaseValidator;
+
+/**
+ * Runs a caseworker's edits of an incomplete case, and corrections of the OCR data of an envelope, through a handler
+ * that revalidates incrementally and one that validates in full, and checks every response is the same.
+ */
+public class CcdCallbackHandlerRevalidationTest {
+
+    @Rule
+    public MockitoRule rule = MockitoJUnit.rule();
+
+    @Mock
+    private RegionalProcessingCenterService regionalProcessingCenterService;
+    @Mock
+    private AirLookupService airLookupService;
+    @Mock
+    private PostcodeValidator postcodeValidator;
+    @Mock
+    private SscsJsonExtractor sscsJsonExtractor;
+    @Mock
+    private CaseTransformer caseTransformer;
+    @Mock
+    private CaseManagementLocationService fullLocations;
+    @Mock
+    private CaseManagementLocationService incrementalLocations;
+
+    // Writes and reads case data the way callbacks and responses are
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    private final IdamTokens idamTokens = IdamTokens.builder().build();
+    private final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+
+    private CcdCallbackHandler full;
+    private CcdCallbackHandler incremental;
+
+    @Before
+    public void setUp() {
+        listAppender.start();
+        ((Logger) LoggerFactory.getLogger(CcdCallbackHandler.class)).addAppender(listAppender);
+
+        given(regionalProcessingCenterService.getByPostcode(anyString(), anyBoolean()))
+            .willReturn(RegionalProcessingCenter.builder().name("Birmingham").epimsId("rpcEpimsId").build());
+        given(airLookupService.lookupAirVenueNameByPostCode(anyString(), any(BenefitType.class))).willReturn("Cardiff");
+        given(postcodeValidator.isValid(anyString())).willReturn(true);
+        given(postcodeValidator.isValidPostcodeFormat(anyString())).willReturn(true);
+        for (CaseManagementLocationService locations : List.of(fullLocations, incrementalLocations)) {
+            given(locations.retrieveCaseManagementLocation(anyString(), any())).willReturn(
+                Optional.of(CaseManagementLocation.builder().baseLocation("rpcEpimsId").region("1").build()));
+        }
+
+        DwpOfficeTable dwpOfficeTable = new DwpOfficeTable(new DwpAddressLookupService());
+        SscsCaseValidator validator = new SscsCaseValidator(
+            PostcodeLookupCache.disabled(regionalProcessingCenterService, airLookupService), dwpOfficeTable,
+            postcodeValidator, sscsJsonExtractor, false);
+        ReflectionTestUtils.setField(validator, "titles", List.of("Mr", "Mrs"));
+
+        full = handler(validator, dwpOfficeTable, fullLocations, RevalidationCache.disabled());
+        incremental = handler(validator, dwpOfficeTable, incrementalLocations,
+            new RevalidationCache(true, 100, 1000, Duration.ofMinutes(5)));
+    }
+
+    @Test
+    public void givenASeriesOfEdits_thenIncrementalRevalidationMatchesAFullRun() throws IOException {
+        List<Edit> edits = List.of(
+            edit(EventType.VALID_APPEAL, caseData -> { }),
+            edit(EventType.VALID_APPEAL, caseData -> { }),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.getAppeal().setHearingSubtype(
+                HearingSubtype.builder().wantsHearingTypeTelephone("Yes").hearingTelephoneNumber("01234567890").build())),
+            edit(EventType.VALID_APPEAL, caseData -> { }),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.getAppeal().setRep(representative("Sir"))),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.getAppeal().setRep(representative("Mrs"))),
+            edit(EventType.VALID_APPEAL, caseData -> { }),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.getAppeal().getAppellant().getAddress().setPostcode("CM13 0GD")),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.getAppeal().getMrnDetails().setMrnDate("2020-02-31")),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.getAppeal().getMrnDetails().setMrnDate("2020-02-28")),
+            edit(EventType.DIRECTION_ISSUED, caseData -> { }),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.getAppeal().setBenefitType(BenefitType.builder().code("esa").build())),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.getAppeal().getMrnDetails().setDwpIssuingOffice("Balham DRT")),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.setSscsDocument(List.of(document(null)))),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.setSscsDocument(List.of(document("evidence.pdf")))),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.getAppeal().getAppellant().getName().setTitle("Sir")),
+            edit(EventType.VALID_APPEAL, caseData -> { }),
+            edit(EventType.VALID_APPEAL, caseData -> caseData.getAppeal().getAppellant().getName().setTitle("Mr")),
+            edit(EventType.VALID_APPEAL, caseData -> { })
+        );
+
+        SscsCaseData saved = caseData();
+        SscsCaseData working = copy(saved);
+        for (Edit edit : edits) {
+            edit.change().accept(working);
+
+            PreSubmitCallbackResponse<SscsCaseData> expected = full.handleValidationAndUpdate(
+                callback(copy(working), copy(saved), edit.event()), idamTokens);
+            PreSubmitCallbackResponse<SscsCaseData> actual = incremental.handleValidationAndUpdate(
+                callback(copy(working), copy(saved), edit.event()), idamTokens);
+
+            assertEquals(expected.getErrors(), actual.getErrors());
+            assertEquals(expected.getWarnings(), actual.getWarnings());
+            assertEquals(expected.getData(), actual.getData());
+
+            // What the caseworker sees next, which is only saved when the event can go ahead
+            working = copy(actual.getData());
+            if (actual.getErrors().isEmpty()) {
+                saved = copy(actual.getData());
+            }
+        }
+
+        assertTrue(reusedSteps() > 0);
+        assertTrue(mockingDetails(incrementalLocations).getInvocations().size()
+            < mockingDetails(fullLocations).getInvocations().size());
+    }
+
+    @Test
+    public void givenCorrectionsToAnEnvelope_thenIncrementalRevalidationMatchesAFullRun() {
+        given(sscsJsonExtractor.extractJson(any())).willAnswer(invocation -> ScannedData.builder()
+            .ocrCaseData(OcrDataBuilder.build(((ExceptionRecord) invocation.getArgument(0)).getOcrDataFields())).build());
+        given(caseTransformer.transformExceptionRecord(any(), anyBoolean()))
+            .willAnswer(invocation -> transform(invocation.getArgument(0)));
+
+        List<Map<String, String>> corrections = List.of(
+            Map.of(),
+            Map.of(),
+            Map.of("office", "Balham DRT"),
+            Map.of(),
+            Map.of("office", "1"),
+            Map.of("person1_title", "Sir"),
+            Map.of(),
+            Map.of("mrn_date", "2020-02-31"),
+            Map.of("person1_title", "Mrs", "mrn_date", "2020-02-28"),
+            Map.of()
+        );
+
+        Map<String, String> ocrData = new HashMap<>(Map.of("person1_title", "Mr", "mrn_date", "2020-01-01", "office", "3"));
+        for (Map<String, String> correction : corrections) {
+            ocrData.putAll(correction);
+
+            CaseResponse expected = full.handleValidation(exceptionRecord(ocrData));
+            CaseResponse actual = incremental.handleValidation(exceptionRecord(ocrData));
+
+            assertEquals(expected.getErrors(), actual.getErrors());
+            assertEquals(expected.getWarnings(), actual.getWarnings());
+            assertEquals(expected.getStatus(), actual.getStatus());
+        }
+
+        assertTrue(reusedSteps() > 0);
+    }
+
+    private CcdCallbackHandler handler(SscsCaseValidator validator, DwpOfficeTable dwpOfficeTable,
+                                       CaseManagementLocationService locations, RevalidationCache revalidationCache) {
+        SscsDataHelper sscsDataHelper = new SscsDataHelper(new CaseEvent(null, "validAppealCreated", null, null),
+            PostcodeLookupCache.disabled(regionalProcessingCenterService, airLookupService), dwpOfficeTable, true);
+        return new CcdCallbackHandler(validator, sscsDataHelper, caseTransformer, new AppealPostcodeHelper(postcodeValidator),
+            dwpOfficeTable, locations, true, new PipelineMetrics(new SimpleMeterRegistry()), revalidationCache);
+    }
+
+    private int reusedSteps() {
+        int reused = 0;
+        for (ILoggingEvent event : new ArrayList<>(listAppender.list)) {
+            if (event.getMessage().startsWith("Reused")) {
+                reused += (Integer) event.getArgumentArray()[0];
+            }
+        }
+        return reused;
+    }
+
+    private static SscsCaseData caseData() {
+        Appeal appeal = Appeal.builder()
+            .appellant(Appellant.builder()
+                .name(Name.builder().title("Mr").firstName("Fred").lastName("Ward").build())
+                .identity(Identity.builder().nino("JT123456N").dob("1990-08-12").build())
+                .address(Address.builder().line1("1 Road").town("Town").county("County").postcode("CV35 2TD").build())
+                .build())
+            .mrnDetails(MrnDetails.builder().mrnDate("2020-01-01").dwpIssuingOffice("3").build())
+            .benefitType(BenefitType.builder().code("PIP").build())
+            .hearingType("oral")
+            .rep(Representative.builder().hasRepresentative("No").build())
+            .build();
+        return SscsCaseData.builder().ccdCaseId("1234").formType(FormType.SSCS1PEU).appeal(appeal).build();
+    }
+
+    // Stands in for the transformer, which the issuing office is left to so that it is read from the OCR data
+    private static CaseResponse transform(ExceptionRecord exceptionRecord) {
+        Map<String, Object> pairs = OcrDataBuilder.build(exceptionRecord.getOcrDataFields());
+        Appeal appeal = caseData().getAppeal();
+        appeal.getAppellant().getName().setTitle((String) pairs.get("person1_title"));
+        appeal.getMrnDetails().setMrnDate((String) pairs.get("mrn_date"));
+        appeal.getMrnDetails().setDwpIssuingOffice(null);
+
+        Map<String, Object> transformedCase = new HashMap<>();
+        transformedCase.put("appeal", appeal);
+        transformedCase.put("formType", FormType.SSCS1PEU);
+        return CaseResponse.builder().transformedCase(transformedCase).warnings(new ArrayList<>()).build();
+    }
+
+    private static ExceptionRecord exceptionRecord(Map<String, String> ocrData) {
+        List<OcrDataField> ocrDataFields = new ArrayList<>();
+        ocrData.forEach((name, value) -> ocrDataFields.add(new OcrDataField(name, value)));
+        return ExceptionRecord.builder().ocrDataFields(ocrDataFields).formType(FormType.SSCS1PEU.getId()).build();
+    }
+
+    private static Representative representative(String title) {
+        return Representative.builder()
+            .hasRepresentative("Yes")
+            .name(Name.builder().title(title).firstName("Jo").lastName("Bloggs").build())
+            .address(Address.builder().line1("2 Street").town("City").county("Shire").postcode("CM13 0GD").build())
+            .build();
+    }
+
+    private static SscsDocument document(String fileName) {
+        return SscsDocument.builder().value(SscsDocumentDetails.builder()
+            .documentFileName(fileName)
+            .documentLink(DocumentLink.builder().documentFilename("evidence.pdf").build())
+            .build()).build();
+    }
+
+    private static Callback<SscsCaseData> callback(SscsCaseData caseData, SscsCaseData before, EventType eventType) {
+        return new Callback<>(caseDetails(caseData), Optional.of(caseDetails(before)), eventType, false);
+    }
+
+    private static CaseDetails<SscsCaseData> caseDetails(SscsCaseData caseData) {
+        return new CaseDetails<>(1234L, "sscs", State.INTERLOCUTORY_REVIEW_STATE, caseData, LocalDateTime.now(), "Benefit");
+    }
+
+    private SscsCaseData copy(SscsCaseData caseData) throws IOException {
+        return mapper.readValue(mapper.writeValueAsBytes(caseData), SscsCaseData.class);
+    }
+
+    private static Edit edit(EventType event, Consumer<SscsCaseData> change) {
+        return new Edit(event, change);
+    }
+
+    private record Edit(EventType event, Consumer<SscsCaseData> change) {
+    }
+}
@@ -22,6 +22,8 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.google.common.collect.ImmutableList;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -73,9 +75,13 @@ import uk.gov.hmcts.reform.sscs.exceptions.InvalidExceptionRecordException;
 import uk.gov.hmcts.reform.sscs.helper.AppealPostcodeHelper;
 import uk.gov.hmcts.reform.sscs.helper.SscsDataHelper;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineMetrics;
 import uk.gov.hmcts.reform.sscs.service.AirLookupService;
 import uk.gov.hmcts.reform.sscs.service.CaseManagementLocationService;
 import uk.gov.hmcts.reform.sscs.service.DwpAddressLookupService;
+import uk.gov.hmcts.reform.sscs.service.DwpOfficeTable;
+import uk.gov.hmcts.reform.sscs.service.PostcodeLookupCache;
+import uk.gov.hmcts.reform.sscs.validators.RevalidationCache;
 
 @RunWith(JUnitParamsRunner.class)
 public class CcdCallbackHandlerTest {
@@ -117,6 +123,8 @@ public class CcdCallbackHandlerTest {
 
     private ListAppender<ILoggingEvent> listAppender;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @Before
     public void setUp() {
         Logger fooLogger = (Logger) LoggerFactory.getLogger(CcdCallbackHandler.class);
@@ -125,11 +133,13 @@ public class CcdCallbackHandlerTest {
         listAppender.start();
         fooLogger.addAppender(listAppender);
 
+        meterRegistry = new SimpleMeterRegistry();
+
         SscsDataHelper sscsDataHelper =
             new SscsDataHelper(
                 new CaseEvent(null, "validAppealCreated", null, null),
-                airLookupService,
-                dwpAddressLookupService,
+                PostcodeLookupCache.disabled(null, airLookupService),
+                DwpOfficeTable.passThrough(dwpAddressLookupService),
                 true);
 
         ccdCallbackHandler =
@@ -138,9 +148,11 @@ public class CcdCallbackHandlerTest {
                 sscsDataHelper,
                 caseTransformer,
                 appealPostcodeHelper,
-                dwpAddressLookupService,
+                DwpOfficeTable.passThrough(dwpAddressLookupService),
                 caseManagementLocationService,
-                true);
+                true,
+                new PipelineMetrics(meterRegistry),
+                RevalidationCache.disabled());
 
         idamTokens = IdamTokens.builder().idamOauth2Token(TEST_USER_AUTH_TOKEN).serviceAuthorization(TEST_SERVICE_AUTH_TOKEN).userId(TEST_USER_ID).build();
 
@@ -177,6 +189,46 @@ public class CcdCallbackHandlerTest {
         assertThat(ccdCallbackResponse.getWarnings()).isNull();
     }
 
+    @Test
+    public void should_record_pipeline_stage_timers_when_transformation_and_validation_are_successful() {
+        ExceptionRecord exceptionRecord = ExceptionRecord.builder().formType("SSCS1PEU").build();
+
+        CaseResponse response = CaseResponse.builder().transformedCase(transformedCase).build();
+        when(caseTransformer.transformExceptionRecord(exceptionRecord, false)).thenReturn(response);
+        when(caseValidator.validateExceptionRecord(response, exceptionRecord, transformedCase, false))
+            .thenReturn(CaseResponse.builder().transformedCase(transformedCase).build());
+
+        invokeCallbackHandler(exceptionRecord);
+
+        for (String stage : List.of("total", "transform", "validate", "case-event")) {
+            assertThat(meterRegistry.find(PipelineMetrics.PIPELINE_TIMER)
+                .tags("handler", "transform", "stage", stage, "form_type", "SSCS1PEU", "outcome", "success")
+                .timer())
+                .as("timer for stage %s", stage)
+                .isNotNull()
+                .extracting(Timer::count)
+                .isEqualTo(1L);
+        }
+    }
+
+    @Test(expected = InvalidExceptionRecordException.class)
+    public void should_record_errors_outcome_when_transformation_fails() {
+        ExceptionRecord exceptionRecord = ExceptionRecord.builder().formType("SSCS1PEU").build();
+
+        when(caseTransformer.transformExceptionRecord(exceptionRecord, false))
+            .thenReturn(CaseResponse.builder().errors(ImmutableList.of("Cannot transform Appellant Date of Birth")).build());
+
+        try {
+            invokeCallbackHandler(exceptionRecord);
+        } catch (InvalidExceptionRecordException e) {
+            assertThat(meterRegistry.find(PipelineMetrics.PIPELINE_TIMER)
+                .tags("handler", "transform", "stage", "total", "outcome", "errors")
+                .timer())
+                .isNotNull();
+            throw e;
+        }
+    }
+
     @Test(expected = InvalidExceptionRecordException.class)
     public void should_return_exception_record_and_errors_in_callback_response_when_transformation_fails() {
         ExceptionRecord exceptionRecord = ExceptionRecord.builder().build();
@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.sscs.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.sscs.util.ConcurrencyLimiter;
+
+public class ConcurrencyLimitInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(
+        new ConcurrencyLimiter(1, 1, 5, 0.9, Duration.ofSeconds(2)), Duration.ofSeconds(3), registry);
+
+    @Test
+    public void givenRoomUnderTheLimit_thenTheRequestRunsAndIsCountedInFlight() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        assertEquals(1.0, registry.get(ConcurrencyLimitInterceptor.IN_FLIGHT).gauge().value(), 0);
+        assertEquals(1.0, registry.get(ConcurrencyLimitInterceptor.LIMIT).gauge().value(), 0);
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertEquals(0.0, registry.get(ConcurrencyLimitInterceptor.IN_FLIGHT).gauge().value(), 0);
+    }
+
+    @Test
+    public void givenTheLimitIsReached_thenTheRequestIsRejectedWithARetryAfter() {
+        MockHttpServletRequest running = new MockHttpServletRequest();
+        interceptor.preHandle(running, new MockHttpServletResponse(), null);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, null));
+        assertEquals(503, response.getStatus());
+        assertEquals("3", response.getHeader("Retry-After"));
+        assertEquals(1.0, registry.get(ConcurrencyLimitInterceptor.REJECTED).counter().count(), 0);
+    }
+
+    @Test
+    public void givenARequestThatWasNotStarted_thenCompletingItDoesNotReleaseAnother() {
+        MockHttpServletRequest running = new MockHttpServletRequest();
+        interceptor.preHandle(running, new MockHttpServletResponse(), null);
+
+        interceptor.afterCompletion(new MockHttpServletRequest(), new MockHttpServletResponse(), null, null);
+        interceptor.afterCompletion(running, new MockHttpServletResponse(), null, null);
+        interceptor.afterCompletion(running, new MockHttpServletResponse(), null, null);
+
+        assertEquals(0.0, registry.get(ConcurrencyLimitInterceptor.IN_FLIGHT).gauge().value(), 0);
+        assertNull(running.getAttribute(ConcurrencyLimitInterceptor.class.getName() + ".started"));
+    }
+}
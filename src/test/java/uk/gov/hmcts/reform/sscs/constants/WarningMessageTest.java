@@ -0,0 +1,164 @@
+package uk.gov.hmcts.reform.sscs.constants;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.*;
+import static uk.gov.hmcts.reform.sscs.domain.CallbackType.EXCEPTION_CALLBACK;
+import static uk.gov.hmcts.reform.sscs.domain.CallbackType.VALIDATION_CALLBACK;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import uk.gov.hmcts.reform.sscs.domain.CallbackType;
+
+public class WarningMessageTest {
+
+    private static final List<String> PERSON_TYPES = Arrays.asList("", PERSON1_VALUE, PERSON2_VALUE,
+        REPRESENTATIVE_VALUE, OTHER_PARTY_VALUE, "appointee", "unknown", null);
+
+    private static final List<String> END_MESSAGES = Arrays.asList(IS_EMPTY, IS_MISSING, ARE_EMPTY, IS_INVALID,
+        HAS_INVALID_ADDRESS, IS_IN_FUTURE, IS_IN_PAST, IS_NOT_A_VALID_POSTCODE, IS_NOT_IN_A_VALID_FORMAT,
+        IS_NOT_MAPPED_TO_A_REGIONAL_PROCESSING_CENTER, PHONE_SELECTED_NOT_PROVIDED, EMAIL_SELECTED_NOT_PROVIDED,
+        "is something nobody expected", null);
+
+    // The messages of each constant as they were before being built into a table, copied from the enum as it was
+    private static final Map<WarningMessage, String[]> OLD_MESSAGES = new EnumMap<>(WarningMessage.class);
+
+    static {
+        old(WarningMessage.APPELLANT_TITLE, TITLE, "Appellant title");
+        old(WarningMessage.APPOINTEE_TITLE, TITLE, "Appointee title");
+        old(WarningMessage.REPRESENTATIVE_TITLE, TITLE, "Representative title");
+        old(WarningMessage.OTHER_PARTY_TITLE, TITLE, "Other party title");
+        old(WarningMessage.APPELLANT_FIRST_NAME, FIRST_NAME, "Appellant first name");
+        old(WarningMessage.APPOINTEE_FIRST_NAME, FIRST_NAME, "Appointee first name");
+        old(WarningMessage.REPRESENTATIVE_FIRST_NAME, FIRST_NAME, "Representative first name");
+        old(WarningMessage.OTHER_PARTY_FIRST_NAME, FIRST_NAME, "Other party first name");
+        old(WarningMessage.APPELLANT_LAST_NAME, LAST_NAME, "Appellant last name");
+        old(WarningMessage.APPOINTEE_LAST_NAME, LAST_NAME, "Appointee last name");
+        old(WarningMessage.REPRESENTATIVE_LAST_NAME, LAST_NAME, "Representative last name");
+        old(WarningMessage.OTHER_PARTY_LAST_NAME, LAST_NAME, "Other party last name");
+        old(WarningMessage.APPELLANT_ADDRESS_LINE1, ADDRESS_LINE1, "Appellant address line 1");
+        old(WarningMessage.APPOINTEE_ADDRESS_LINE1, ADDRESS_LINE1, "Appointee address line 1");
+        old(WarningMessage.REPRESENTATIVE_ADDRESS_LINE1, ADDRESS_LINE1, "Representative address line 1");
+        old(WarningMessage.OTHER_PARTY_ADDRESS_LINE1, ADDRESS_LINE1, "Other party address line 1");
+        old(WarningMessage.APPELLANT_ADDRESS_LINE2, ADDRESS_LINE2, "Appellant address town");
+        old(WarningMessage.APPOINTEE_ADDRESS_LINE2, ADDRESS_LINE2, "Appointee address town");
+        old(WarningMessage.REPRESENTATIVE_ADDRESS_LINE2, ADDRESS_LINE2, "Representative address town");
+        old(WarningMessage.OTHER_PARTY_ADDRESS_LINE2, ADDRESS_LINE2, "Other party address town");
+        old(WarningMessage.APPELLANT_ADDRESS_LINE3, ADDRESS_LINE3, "Appellant address town");
+        old(WarningMessage.APPOINTEE_ADDRESS_LINE3, ADDRESS_LINE3, "Appointee address town");
+        old(WarningMessage.REPRESENTATIVE_ADDRESS_LINE3, ADDRESS_LINE3, "Representative address town");
+        old(WarningMessage.OTHER_PARTY_ADDRESS_LINE3, ADDRESS_LINE3, "Other party address county");
+        old(WarningMessage.APPELLANT_ADDRESS_LINE3_COUNTY, ADDRESS_LINE3, "Appellant address county");
+        old(WarningMessage.APPOINTEE_ADDRESS_LINE3_COUNTY, ADDRESS_LINE3, "Appointee address county");
+        old(WarningMessage.REPRESENTATIVE_ADDRESS_LINE3_COUNTY, ADDRESS_LINE3, "Representative address county");
+        old(WarningMessage.APPELLANT_ADDRESS_LINE4, ADDRESS_LINE4, "Appellant address county");
+        old(WarningMessage.APPOINTEE_ADDRESS_LINE4, ADDRESS_LINE4, "Appointee address county");
+        old(WarningMessage.REPRESENTATIVE_ADDRESS_LINE4, ADDRESS_LINE4, "Representative address county");
+        old(WarningMessage.APPELLANT_POSTCODE, ADDRESS_POSTCODE, "Appellant postcode");
+        old(WarningMessage.APPOINTEE_POSTCODE, ADDRESS_POSTCODE, "Appointee postcode");
+        old(WarningMessage.REPRESENTATIVE_POSTCODE, ADDRESS_POSTCODE, "Representative postcode");
+        old(WarningMessage.OTHER_PARTY_POSTCODE, ADDRESS_POSTCODE, "Other party postcode");
+        old(WarningMessage.APPELLANT_ADDRESS_COUNTRY, ADDRESS_COUNTRY, "Appellant address country");
+        old(WarningMessage.APPELLANT_ADDRESS_PORT_OF_ENTRY, ADDRESS_PORT_OF_ENTRY, "Appellant address port of entry");
+        old(WarningMessage.APPELLANT_IBCA_REFERENCE, IBCA_REFERENCE, "Appellant ibca reference");
+        old(WarningMessage.BENEFIT_TYPE_DESCRIPTION, SscsConstants.BENEFIT_TYPE_DESCRIPTION, "Benefit type description");
+        old(WarningMessage.BENEFIT_TYPE_OTHER, SscsConstants.BENEFIT_TYPE_OTHER, "Benefit type description");
+        old(WarningMessage.MRN_DATE, SscsConstants.MRN_DATE, "Mrn date");
+        old(WarningMessage.APPEAL_GROUNDS, SscsConstants.APPEAL_GROUNDS, "Grounds for appeal");
+        old(WarningMessage.OFFICE, ISSUING_OFFICE, "DWP issuing office");
+        old(WarningMessage.HEARING_OPTIONS_EXCLUDE_DATES, HEARING_OPTIONS_EXCLUDE_DATES_LITERAL, "Hearing options exclude dates");
+        old(WarningMessage.APPELLANT_NINO, NINO, "Appellant nino");
+        old(WarningMessage.APPELLANT_MOBILE, MOBILE, "Appellant mobile");
+        old(WarningMessage.APPOINTEE_MOBILE, MOBILE, "Appointee mobile");
+        old(WarningMessage.REPRESENTATIVE_MOBILE, MOBILE, "Representative mobile");
+        old(WarningMessage.APPELLANT_DOB, DOB, "Appellant date of birth");
+        old(WarningMessage.APPOINTEE_DOB, DOB, "Appointee date of birth");
+        old(WarningMessage.HEARING_TYPE, "is_hearing_type_oral and/or is_hearing_type_paper", "Hearing type");
+        old(WarningMessage.REPRESENTATIVE_NAME_OR_ORGANISATION, "representative_company, representative_first_name and representative_last_name", "Representative organisation, Representative first name and Representative last name");
+        old(WarningMessage.HEARING_TYPE_VIDEO, HEARING_VIDEO_EMAIL_LITERAL, "Hearing video email address");
+        old(WarningMessage.HEARING_TELEPHONE_NUMBER_MULTIPLE, "Telephone hearing selected but the number used is invalid. Please check either the hearing_telephone_number or person1_phone fields", "Telephone hearing selected but the number used is invalid. Please check either the telephone or hearing telephone number fields");
+        old(WarningMessage.HEARING_TYPE_TELEPHONE, HEARING_TELEPHONE_LITERAL, "Hearing telephone number");
+        old(WarningMessage.HEARING_SUB_TYPE_TELEPHONE_OR_VIDEO_FACE_TO_FACE, "hearing_type_telephone, hearing_type_video and hearing_type_face_to_face", "Hearing option telephone, video and face to face");
+        old(WarningMessage.PERSON1_CHILD_MAINTENANCE_NUMBER, "person1_child_maintenance_number", "Child maintenance number");
+        old(WarningMessage.APPELLANT_PARTY_NAME, "is_paying_parent, is_receiving_parent, is_another_party and other_party_details", "Appellant role and/or description");
+        old(WarningMessage.APPELLANT_PARTY_DESCRIPTION, "other_party_details", "Appellant role and/or description");
+    }
+
+    @Test
+    public void givenAnyCombination_thenMessageMatchesTheOldConcatenation() {
+        assertEquals(WarningMessage.values().length, OLD_MESSAGES.size());
+        for (WarningMessage warningMessage : WarningMessage.values()) {
+            String name = warningMessage.name().toLowerCase();
+            for (CallbackType callbackType : CallbackType.values()) {
+                for (String personType : PERSON_TYPES) {
+                    for (String endMessage : END_MESSAGES) {
+                        String expected = oldMessage(callbackType, personType, warningMessage, endMessage);
+                        String combination = warningMessage + " " + callbackType + " " + personType + " " + endMessage;
+
+                        assertEquals(combination, expected, warningMessage.message(callbackType, personType, endMessage));
+                        assertEquals(combination, expected,
+                            WarningMessage.getMessageByCallbackType(callbackType, personType, name, endMessage));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void givenANullEndMessage_thenTheMessageHasNoEnding() {
+        assertEquals("person1_title", WarningMessage.APPELLANT_TITLE.message(EXCEPTION_CALLBACK, PERSON1_VALUE, null));
+        assertEquals("Appellant title", WarningMessage.APPELLANT_TITLE.message(VALIDATION_CALLBACK, PERSON1_VALUE, null));
+        assertEquals("nullmrn_date", WarningMessage.MRN_DATE.message(EXCEPTION_CALLBACK, null, null));
+    }
+
+    @Test
+    public void givenKnownCombination_thenTheSameMessageIsReturned() {
+        String message = WarningMessage.APPELLANT_TITLE.message(EXCEPTION_CALLBACK, PERSON1_VALUE, IS_INVALID);
+
+        assertEquals("person1_title is invalid", message);
+        assertSame(message, WarningMessage.APPELLANT_TITLE.message(EXCEPTION_CALLBACK, PERSON1_VALUE, IS_INVALID));
+        assertSame(WarningMessage.MRN_DATE.message(VALIDATION_CALLBACK, "", IS_EMPTY),
+            WarningMessage.MRN_DATE.message(VALIDATION_CALLBACK, PERSON1_VALUE, IS_EMPTY));
+        assertEquals("Mrn date is empty", WarningMessage.MRN_DATE.message(VALIDATION_CALLBACK, "", IS_EMPTY));
+    }
+
+    @Test
+    public void givenPersonNameAndField_thenOfMatchesTheConstantName() {
+        List<String> fields = Arrays.asList(TITLE, FIRST_NAME, LAST_NAME, ADDRESS_LINE1, ADDRESS_LINE2, ADDRESS_LINE3,
+            ADDRESS_LINE4, ADDRESS_POSTCODE, NINO, IBCA_REFERENCE, MOBILE, DOB, "_ADDRESS_LINE3_COUNTY", "_PARTY_NAME");
+        for (String personName : Arrays.asList("APPELLANT", "APPOINTEE", "REPRESENTATIVE", "OTHER_PARTY")) {
+            for (String field : fields) {
+                WarningMessage expected;
+                try {
+                    expected = WarningMessage.valueOf((personName + field).toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+                assertSame(personName + field, expected, WarningMessage.of(personName, field));
+            }
+        }
+    }
+
+    @Test
+    public void givenMessageName_thenGetMessageByCallbackTypeStillWorks() {
+        assertEquals("person2_dob is in future", WarningMessage.getMessageByCallbackType(EXCEPTION_CALLBACK, PERSON2_VALUE,
+            "appellant_dob", IS_IN_FUTURE));
+    }
+
+    private static void old(WarningMessage warningMessage, String exceptionRecordMessage, String validationRecordMessage) {
+        OLD_MESSAGES.put(warningMessage, new String[] {exceptionRecordMessage, validationRecordMessage});
+    }
+
+    // As getMessageByCallbackType built every message before the table
+    private static String oldMessage(CallbackType callbackType, String personType, WarningMessage warningMessage,
+                                     String endMessage) {
+        String startMessage = callbackType == EXCEPTION_CALLBACK
+            ? personType + OLD_MESSAGES.get(warningMessage)[0]
+            : OLD_MESSAGES.get(warningMessage)[1];
+
+        return endMessage != null ? startMessage + " " + endMessage : startMessage;
+    }
+}
@@ -19,6 +19,8 @@ import uk.gov.hmcts.reform.sscs.model.dwp.Mapping;
 import uk.gov.hmcts.reform.sscs.model.dwp.OfficeMapping;
 import uk.gov.hmcts.reform.sscs.service.AirLookupService;
 import uk.gov.hmcts.reform.sscs.service.DwpAddressLookupService;
+import uk.gov.hmcts.reform.sscs.service.DwpOfficeTable;
+import uk.gov.hmcts.reform.sscs.service.PostcodeLookupCache;
 
 @RunWith(SpringRunner.class)
 public class SscsDataHelperTest {
@@ -41,8 +43,8 @@ public class SscsDataHelperTest {
                 "validAppealCreated",
                 "incompleteApplicationReceived",
                 "nonCompliant"),
-            airLookupService,
-            dwpAddressLookupService,
+            PostcodeLookupCache.disabled(null, airLookupService),
+            DwpOfficeTable.passThrough(dwpAddressLookupService),
             true);
     }
 
@@ -0,0 +1,153 @@
+package uk.gov.hmcts.reform.sscs.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static uk.gov.hmcts.reform.sscs.common.TestHelper.exceptionRecord;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.sscs.BulkScanApplication;
+import uk.gov.hmcts.reform.sscs.ccd.callback.Callback;
+import uk.gov.hmcts.reform.sscs.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.sscs.ccd.domain.SscsCaseData;
+import uk.gov.hmcts.reform.sscs.exceptions.BulkScanJsonException;
+import uk.gov.hmcts.reform.sscs.validators.CaseDataField;
+
+public class SscsCaseCallbackReaderTest {
+
+    private final BulkScanApplication application = new BulkScanApplication();
+    private final SscsCaseCallbackReader reader = application.sscsCaseCallbackReader();
+    // Writes responses the way the HTTP message converter does
+    private final ObjectMapper responseMapper = Jackson2ObjectMapperBuilder.json().build();
+    // Reads responses failing on a field written twice, which reading a tree otherwise lets the last one win
+    private final ObjectMapper strictMapper = Jackson2ObjectMapperBuilder.json().build()
+        .enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+
+    private String message;
+
+    @Before
+    public void setUp() throws Exception {
+        ObjectNode callback = (ObjectNode) responseMapper.readTree(exceptionRecord("validation/validate-appeal-created-case-request.json"));
+        ObjectNode caseData = (ObjectNode) callback.get("case_details").get("case_data");
+        caseData.put("ogdType", "HMRC");
+        caseData.putObject("someFieldThisServiceDoesNotKnow").put("value", "kept as it is").putArray("list").add(1).add("two");
+        callback.set("case_details_before", callback.get("case_details").deepCopy());
+        message = responseMapper.writeValueAsString(callback);
+    }
+
+    @Test
+    public void givenACallback_thenReadingTheStreamMatchesDeserializingTheString() {
+        Callback<SscsCaseData> expected = application.sscsCaseCallbackDeserializer().deserialize(message);
+        Callback<SscsCaseData> actual = reader.read(stream(message));
+
+        assertEquals(expected.getEvent(), actual.getEvent());
+        assertEquals(expected.getCaseDetails().getId(), actual.getCaseDetails().getId());
+        assertEquals(expected.getCaseDetails().getState(), actual.getCaseDetails().getState());
+        assertEquals(expected.getCaseDetails().getCaseData(), actual.getCaseDetails().getCaseData());
+    }
+
+    @Test(expected = BulkScanJsonException.class)
+    public void givenMalformedJson_thenThrowsBulkScanJsonException() {
+        reader.read(stream("{\"case_details\":"));
+    }
+
+    @Test(expected = BulkScanJsonException.class)
+    public void givenMalformedJson_thenPartialBindingThrowsBulkScanJsonException() {
+        reader.readPartial(stream("{\"case_details\":"));
+    }
+
+    @Test
+    public void givenPartialBinding_thenTheFieldsUsedAreBoundAsInFull() {
+        SscsCaseData expected = reader.read(stream(message)).getCaseDetails().getCaseData();
+        PartialCallback partial = reader.readPartial(stream(message));
+        SscsCaseData actual = partial.callback().getCaseDetails().getCaseData();
+
+        assertEquals(expected.getAppeal(), actual.getAppeal());
+        assertEquals(expected.getCcdCaseId(), actual.getCcdCaseId());
+        assertEquals(reader.read(stream(message)).getCaseDetails().getId(), partial.callback().getCaseDetails().getId());
+        assertTrue(partial.untouched().containsKey("caseReference"));
+        assertTrue(partial.untouched().containsKey("someFieldThisServiceDoesNotKnow"));
+    }
+
+    @Test
+    public void givenPartialBinding_thenTheResponseMatchesFullBindingAndCopiesUntouchedFields() throws Exception {
+        Callback<SscsCaseData> full = reader.read(stream(message));
+        full.getCaseDetails().getCaseData().setProcessingVenue("Cardiff");
+        PartialCallback partial = reader.readPartial(stream(message));
+        partial.callback().getCaseDetails().getCaseData().setProcessingVenue("Cardiff");
+
+        JsonNode fullResponse = responseMapper.valueToTree(response(full.getCaseDetails().getCaseData()));
+        JsonNode partialResponse = strictMapper.readTree(
+            responseMapper.writeValueAsBytes(partial.respond(response(partial.callback().getCaseDetails().getCaseData()))));
+
+        assertEquals(fullResponse.get("errors"), partialResponse.get("errors"));
+        assertEquals(fullResponse.get("warnings"), partialResponse.get("warnings"));
+        assertEquals("Cardiff", partialResponse.get("data").get("processingVenue").asText());
+        assertEquals(responseMapper.treeToValue(fullResponse.get("data"), SscsCaseData.class),
+            responseMapper.treeToValue(partialResponse.get("data"), SscsCaseData.class));
+
+        JsonNode original = responseMapper.readTree(message).get("case_details").get("case_data");
+        assertEquals(original.get("caseReference"), partialResponse.get("data").get("caseReference"));
+        assertEquals(original.get("someFieldThisServiceDoesNotKnow"), partialResponse.get("data").get("someFieldThisServiceDoesNotKnow"));
+    }
+
+    @Test
+    public void givenAHandlerSetsAFieldThatWasNotBound_thenTheResponseHasWhatTheHandlerSet() throws Exception {
+        PartialCallback partial = reader.readPartial(stream(message));
+        SscsCaseData caseData = partial.callback().getCaseDetails().getCaseData();
+        caseData.setCaseReference("SC001/23/45678");
+
+        JsonNode partialResponse = strictMapper.readTree(responseMapper.writeValueAsBytes(partial.respond(response(caseData))));
+
+        assertTrue(partial.untouched().containsKey("caseReference"));
+        assertEquals("SC001/23/45678", partialResponse.get("data").get("caseReference").asText());
+        JsonNode original = responseMapper.readTree(message).get("case_details").get("case_data");
+        assertEquals(original.get("someFieldThisServiceDoesNotKnow"), partialResponse.get("data").get("someFieldThisServiceDoesNotKnow"));
+    }
+
+    @Test
+    public void givenTheFieldsValidateRecordUses_thenUnwrappedFieldsAndCaseDataFieldsAreBound() {
+        assertTrue(reader.boundCaseDataFields().containsAll(CaseDataField.caseDataProperties()));
+        assertTrue(reader.boundCaseDataFields().containsAll(List.of("formType", "caseAccessCategory", "ogdType")));
+        assertFalse(reader.boundCaseDataFields().contains("caseAccessManagementFields"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void givenAPropertyTheCaseDataDoesNotHave_thenTheReaderCannotBeCreated() {
+        new SscsCaseCallbackReader(responseMapper, Set.of("appeal", "aPropertyThatWasRenamed"));
+    }
+
+    @Test
+    public void givenAHandlerSetsAnUnwrappedFieldThatWasNotBound_thenItIsWrittenOnceAsTheHandlerSetIt() throws Exception {
+        PartialCallback partial = new SscsCaseCallbackReader(responseMapper, Set.of("appeal")).readPartial(stream(message));
+        SscsCaseData caseData = partial.callback().getCaseDetails().getCaseData();
+        caseData.getCaseAccessManagementFields().setOgdType("DWP");
+
+        JsonNode partialResponse = strictMapper.readTree(responseMapper.writeValueAsBytes(partial.respond(response(caseData))));
+
+        assertTrue(partial.untouched().containsKey("ogdType"));
+        assertEquals("DWP", partialResponse.get("data").get("ogdType").asText());
+        JsonNode original = responseMapper.readTree(message).get("case_details").get("case_data");
+        assertEquals(original.get("caseReference"), partialResponse.get("data").get("caseReference"));
+    }
+
+    private static PreSubmitCallbackResponse<SscsCaseData> response(SscsCaseData caseData) {
+        PreSubmitCallbackResponse<SscsCaseData> response = new PreSubmitCallbackResponse<>(caseData);
+        response.addWarnings(List.of("a warning"));
+        return response;
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(UTF_8));
+    }
+}
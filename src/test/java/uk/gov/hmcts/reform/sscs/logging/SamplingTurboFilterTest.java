@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.sscs.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SamplingTurboFilterTest {
+
+    private static final String SAMPLED = "uk.gov.hmcts.reform.sscs.service.FuzzyMatcherService";
+    private static final String NOT_SAMPLED = "uk.gov.hmcts.reform.sscs.bulkscancore.handlers.CcdCallbackHandler";
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> appender;
+
+    @Before
+    public void setUp() {
+        context = new LoggerContext();
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setCategories("uk.gov.hmcts.reform.sscs.service=1000, " + SAMPLED + "=4, invalid, also.invalid=x");
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+    }
+
+    @Test
+    public void should_keep_one_in_n_info_events_using_longest_matching_category() {
+        Logger logger = context.getLogger(SAMPLED);
+
+        for (int i = 0; i < 8; i++) {
+            logger.info("Search code {} matched", i);
+        }
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+            .containsExactly("Search code 0 matched", "Search code 4 matched");
+    }
+
+    @Test
+    public void should_not_sample_warnings_business_events_or_other_categories() {
+        Logger sampled = context.getLogger(SAMPLED);
+        Logger notSampled = context.getLogger(NOT_SAMPLED);
+
+        for (int i = 0; i < 3; i++) {
+            sampled.warn("warning {}", i);
+            sampled.info(LogMarkers.BUSINESS_EVENT, "business {}", i);
+            notSampled.info("handler {}", i);
+        }
+
+        assertThat(appender.list).hasSize(9);
+    }
+
+    @Test
+    public void should_not_use_up_samples_on_level_checks() {
+        Logger logger = context.getLogger(SAMPLED);
+
+        assertThat(logger.isInfoEnabled()).isTrue();
+        logger.info("first");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("first");
+    }
+}
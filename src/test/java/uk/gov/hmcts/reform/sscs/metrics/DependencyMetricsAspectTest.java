@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+import uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DependencyMetricsAspectTest {
+
+    private static final String TOKEN = "Bearer token";
+
+    @Mock
+    private AuthTokenValidator validator;
+
+    private SimpleMeterRegistry registry;
+
+    private AuthTokenValidator proxy;
+
+    @Before
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(validator);
+        factory.addAspect(new DependencyMetricsAspect(new DependencyMetrics(registry)));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    public void should_time_successful_call_and_leave_nothing_in_flight() {
+        given(validator.getServiceName(TOKEN)).willReturn("bulk_scan_orchestrator");
+
+        assertThat(proxy.getServiceName(TOKEN)).isEqualTo("bulk_scan_orchestrator");
+
+        assertThat(registry.get(DependencyMetrics.DEPENDENCY_TIMER)
+            .tags("service", "s2s", "operation", "getServiceName", "outcome", "success")
+            .timer().count()).isEqualTo(1);
+        assertThat(registry.get(DependencyMetrics.DEPENDENCY_IN_FLIGHT)
+            .tags("service", "s2s").gauge().value()).isZero();
+        assertThat(registry.find(DependencyMetrics.DEPENDENCY_ERRORS).counter()).isNull();
+    }
+
+    @Test
+    public void should_count_error_and_rethrow_when_call_fails() {
+        given(validator.getServiceName(TOKEN)).willThrow(new InvalidTokenException("expired"));
+
+        Throwable exception = catchThrowable(() -> proxy.getServiceName(TOKEN));
+
+        assertThat(exception).isInstanceOf(InvalidTokenException.class);
+        assertThat(registry.get(DependencyMetrics.DEPENDENCY_ERRORS)
+            .tags("service", "s2s", "exception", "InvalidTokenException")
+            .counter().count()).isEqualTo(1);
+        assertThat(registry.get(DependencyMetrics.DEPENDENCY_TIMER)
+            .tags("outcome", "error")
+            .timer().count()).isEqualTo(1);
+        assertThat(registry.get(DependencyMetrics.DEPENDENCY_IN_FLIGHT)
+            .tags("service", "s2s").gauge().value()).isZero();
+    }
+}
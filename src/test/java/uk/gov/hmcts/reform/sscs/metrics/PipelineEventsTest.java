@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+public class PipelineEventsTest {
+
+    @Test
+    public void should_emit_request_stage_and_outbound_call_events_with_request_context() throws Exception {
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(new SimpleMeterRegistry());
+        DependencyMetrics dependencyMetrics = new DependencyMetrics(new SimpleMeterRegistry());
+        Path dump = Files.createTempFile("pipeline-events", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(PipelineRequestEvent.class);
+            recording.enable(PipelineStageEvent.class);
+            recording.enable(OutboundCallEvent.class);
+            recording.start();
+
+            StageTimer request = pipelineMetrics.startRequest(PipelineHandler.TRANSFORM, "1234", "SSCS1PEU");
+            StageTimer transform = pipelineMetrics.start(PipelineHandler.TRANSFORM, PipelineStage.TRANSFORM);
+            dependencyMetrics.start(OutboundDependency.IDAM_TOKENS).success();
+            transform.stop("SSCS1PEU", StageOutcome.WARNINGS);
+            request.stop("SSCS1PEU", StageOutcome.WARNINGS);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        Files.deleteIfExists(dump);
+
+        RecordedEvent requestEvent = single(events, "uk.gov.hmcts.reform.sscs.PipelineRequest");
+        assertThat(requestEvent.getString("handler")).isEqualTo("transform");
+        assertThat(requestEvent.getString("exceptionRecordId")).isEqualTo("1234");
+        assertThat(requestEvent.getString("formType")).isEqualTo("SSCS1PEU");
+        assertThat(requestEvent.getString("outcome")).isEqualTo("warnings");
+
+        RecordedEvent stageEvent = single(events, "uk.gov.hmcts.reform.sscs.PipelineStage");
+        assertThat(stageEvent.getString("stage")).isEqualTo("transform");
+        assertThat(stageEvent.getString("exceptionRecordId")).isEqualTo("1234");
+
+        RecordedEvent outboundEvent = single(events, "uk.gov.hmcts.reform.sscs.OutboundCall");
+        assertThat(outboundEvent.getString("service")).isEqualTo("idam");
+        assertThat(outboundEvent.getString("exceptionRecordId")).isEqualTo("1234");
+        assertThat(outboundEvent.getString("outcome")).isEqualTo("success");
+
+        assertThat(PipelineContext.current().getExceptionRecordId()).isNull();
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .toList();
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+}
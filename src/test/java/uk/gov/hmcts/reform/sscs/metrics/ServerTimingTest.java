@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.sscs.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+public class ServerTimingTest {
+
+    @After
+    public void tearDown() {
+        ServerTiming.end();
+    }
+
+    @Test
+    public void should_not_record_when_request_has_not_opted_in() {
+        ServerTiming.record("transform", TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    public void should_format_entries_in_order_and_sum_repeated_calls() {
+        ServerTiming.begin();
+
+        ServerTiming.record("transform", TimeUnit.MICROSECONDS.toNanos(12_340));
+        ServerTiming.record("postcode.isValid", TimeUnit.MILLISECONDS.toNanos(2));
+        ServerTiming.record("postcode.isValid", TimeUnit.MILLISECONDS.toNanos(3));
+
+        assertThat(ServerTiming.current().headerValue())
+            .startsWith("transform;dur=12.3, postcode.isValid;desc=\"2 calls\";dur=5.0, app;dur=");
+    }
+}
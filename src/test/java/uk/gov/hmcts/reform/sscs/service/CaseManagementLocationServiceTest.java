@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Optional;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,11 +25,15 @@ public class CaseManagementLocationServiceTest {
     @Mock
     private VenueService venueService;
 
+    @Mock
+    private AirLookupService airLookupService;
+
     private CaseManagementLocationService caseManagementLocationService;
 
     public void setupCaseManagementLocationService(boolean feature) {
         caseManagementLocationService = new CaseManagementLocationService(
-            refDataService, venueService, feature);
+            new LocationRefDataSnapshot(refDataService, venueService, airLookupService, true, new String[0], Duration.ofMinutes(1)),
+            feature);
     }
 
     @Test
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DuplicateCaseIndexShadowTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File export;
+    private SimpleMeterRegistry registry;
+    private DuplicateCaseIndexShadow index;
+
+    @Before
+    public void setup() throws IOException {
+        export = folder.newFile("cases.psv");
+        Files.writeString(export.toPath(), "# nino|benefitCode|mrnDate\nBB000000B|PIP|2020-01-01\nnot a record\n\nCC 00 00 00 C|esa|2021-02-03\n", UTF_8);
+        registry = new SimpleMeterRegistry();
+        index = new DuplicateCaseIndexShadow(true, export.getPath(), 1000, 0.001, Duration.ofDays(1), registry);
+    }
+
+    @Test
+    public void givenTheIndexIsNotLoaded_thenEveryCaseIsAPossibleMatch() {
+        assertFalse(index.isLoaded());
+        assertTrue(index.mightContain("AA000000A", "PIP", "2020-01-01"));
+    }
+
+    @Test
+    public void givenAnExport_thenExportedCasesArePossibleMatchesAndOthersAreNot() {
+        index.rebuild();
+
+        assertTrue(index.isLoaded());
+        assertTrue(index.mightContain("BB000000B", "PIP", "2020-01-01"));
+        assertTrue(index.mightContain("CC000000C", "ESA", "2021-02-03"));
+        assertFalse(index.mightContain("BB000000B", "PIP", "2020-01-02"));
+        assertEquals(2.0, registry.get("bulkscan.duplicate.index.shadow.entries").gauge().value(), 0);
+        assertEquals(1, registry.get("bulkscan.duplicate.index.shadow.rebuild").timer().count());
+        assertTrue(registry.get("bulkscan.duplicate.index.shadow.size").gauge().value() > 0);
+    }
+
+    @Test
+    public void givenACaseAddedBeforeARebuild_thenItIsStillAPossibleMatchAfterwards() {
+        index.add("DD000000D", "UC", "2022-03-04");
+        index.rebuild();
+
+        assertTrue(index.mightContain("DD000000D", "UC", "2022-03-04"));
+    }
+
+    @Test
+    public void givenACaseAddedAfterARebuild_thenItIsAPossibleMatch() {
+        index.rebuild();
+        index.add("DD000000D", "UC", "2022-03-04");
+
+        assertTrue(index.mightContain("DD000000D", "UC", "2022-03-04"));
+    }
+
+    @Test
+    public void givenTheExportCannotBeRead_thenThePreviousIndexIsKept() throws IOException {
+        index.rebuild();
+        Files.delete(export.toPath());
+        index.rebuild();
+
+        assertTrue(index.mightContain("BB000000B", "PIP", "2020-01-01"));
+        assertFalse(index.mightContain("BB000000B", "PIP", "2020-01-02"));
+    }
+
+    @Test
+    public void givenAPossibleMatchWithNoCaseInCcd_thenAFalsePositiveIsCounted() {
+        index.rebuild();
+        index.recordSearchResult("BB000000B", "PIP", "2020-01-01", false);
+        index.recordSearchResult("BB000000B", "PIP", "2020-01-01", true);
+
+        assertEquals(2.0, lookups("possible_match"), 0);
+        assertEquals(1.0, lookups("false_positive"), 0);
+    }
+
+    @Test
+    public void givenACaseInCcdMissingFromTheExportAndThisInstance_thenItIsCountedAsMissed() {
+        index.rebuild();
+        index.add("DD000000D", "UC", "2022-03-04");
+
+        assertFalse(index.mightContain("EE000000E", "PIP", "2023-04-05"));
+        index.recordSearchResult("EE000000E", "PIP", "2023-04-05", true);
+
+        assertEquals(1.0, lookups("definitely_new"), 0);
+        assertEquals(1.0, lookups("missed"), 0);
+    }
+
+    @Test
+    public void givenADisabledIndex_thenEveryCaseIsAPossibleMatch() {
+        DuplicateCaseIndexShadow disabled = DuplicateCaseIndexShadow.disabled();
+        disabled.rebuild();
+        disabled.add("BB000000B", "PIP", "2020-01-01");
+
+        assertTrue(disabled.mightContain("AA000000A", "PIP", "2020-01-01"));
+    }
+
+    private double lookups(String result) {
+        return registry.get("bulkscan.duplicate.index.shadow.lookups").tag("result", result).counter().count();
+    }
+}
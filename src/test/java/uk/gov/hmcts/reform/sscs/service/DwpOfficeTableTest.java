@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.Test;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Benefit;
+import uk.gov.hmcts.reform.sscs.model.dwp.OfficeMapping;
+
+public class DwpOfficeTableTest {
+
+    private static final List<String> OFFICES = List.of(
+        "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "AE", "(AE)", "PIP AE", "DWP PIP (AE)",
+        "PIP (3)", "  PIP 3  ", "PIP 3", "DWP PIP (3)", "DWP PIP (1)", "DWP PIP (5)",
+        "Balham DRT", "BALHAM DRT", "Sheffield DRT", "Chesterfield DRT", "Worthing DRT", "Birkenhead DRT",
+        "Inverness DRT", "Recovery from Estates", "Disability Benefit Centre 4", "The Pension Service 11",
+        "Barrow IIDB Centre", "Barnsley Benefit Centre", "Walsall Benefit Centre", "Universal Credit",
+        "Bla", "Anything", "", " ");
+
+    private final DwpAddressLookupService service = new DwpAddressLookupService();
+    private final DwpOfficeTable table = new DwpOfficeTable(service);
+
+    @Test
+    public void givenEveryBenefitAndOffice_thenTheTableMatchesTheService() {
+        List<String> benefitCodes = new ArrayList<>();
+        for (Benefit benefit : Benefit.values()) {
+            benefitCodes.add(benefit.getShortName());
+            benefitCodes.add(benefit.getShortName().toLowerCase(Locale.UK));
+        }
+        benefitCodes.add("unknown");
+
+        for (String benefitCode : benefitCodes) {
+            assertEquals(benefitCode, outcome(() -> service.getDefaultDwpMappingByBenefitType(benefitCode)),
+                outcome(() -> table.getDefaultDwpMappingByBenefitType(benefitCode)));
+
+            for (String office : offices(benefitCode)) {
+                String pair = benefitCode + "/" + office;
+                assertEquals(pair, outcome(() -> service.getDwpMappingByOffice(benefitCode, office)),
+                    outcome(() -> table.getDwpMappingByOffice(benefitCode, office)));
+                assertEquals(pair, outcome(() -> service.getDwpRegionalCenterByBenefitTypeAndOffice(benefitCode, office)),
+                    outcome(() -> table.getDwpRegionalCenterByBenefitTypeAndOffice(benefitCode, office)));
+            }
+        }
+    }
+
+    @Test
+    public void givenAnOfficeFromTheMappings_thenTheServiceIsNotAskedWhateverItsCaseAndSpaces() {
+        DwpAddressLookupService spiedService = spy(new DwpAddressLookupService());
+        DwpOfficeTable spiedTable = new DwpOfficeTable(spiedService);
+        String office = spiedService.getDwpOfficeMappings("PIP")[0].getMapping().getCcd();
+        clearInvocations(spiedService);
+
+        spiedTable.getDwpMappingByOffice("PIP", office);
+        spiedTable.getDwpMappingByOffice("PIP", " " + office.toLowerCase(Locale.UK) + " ");
+        spiedTable.getDwpRegionalCenterByBenefitTypeAndOffice("PIP", office.toUpperCase(Locale.UK));
+        spiedTable.getDefaultDwpMappingByBenefitType("PIP");
+
+        verifyNoInteractions(spiedService);
+    }
+
+    @Test
+    public void givenAnOfficeNotInTheMappings_thenTheServiceAnswersAndNothingIsKept() {
+        DwpAddressLookupService spiedService = spy(new DwpAddressLookupService());
+        DwpOfficeTable spiedTable = new DwpOfficeTable(spiedService);
+        clearInvocations(spiedService);
+
+        spiedTable.getDwpMappingByOffice("PIP", "Bla");
+        spiedTable.getDwpMappingByOffice("PIP", "Bla");
+
+        verify(spiedService, times(2)).getDwpMappingByOffice("PIP", "Bla");
+    }
+
+    @Test
+    public void givenAPassThroughTable_thenEveryLookupGoesToTheService() {
+        DwpAddressLookupService mockService = mock(DwpAddressLookupService.class);
+        DwpOfficeTable passThrough = DwpOfficeTable.passThrough(mockService);
+
+        passThrough.getDwpRegionalCenterByBenefitTypeAndOffice("PIP", "3");
+        passThrough.getDwpRegionalCenterByBenefitTypeAndOffice("PIP", "3");
+
+        verify(mockService, times(2)).getDwpRegionalCenterByBenefitTypeAndOffice("PIP", "3");
+    }
+
+    private Set<String> offices(String benefitCode) {
+        Set<String> offices = new LinkedHashSet<>(OFFICES);
+        offices.add(null);
+        service.getDefaultDwpMappingByBenefitType(benefitCode).ifPresent(mapping -> addSpellings(offices, mapping));
+        OfficeMapping[] mappings = Benefit.getBenefitOptionalByCode(benefitCode)
+            .map(benefit -> service.getDwpOfficeMappings(benefit.getShortName()))
+            .orElse(null);
+        for (OfficeMapping mapping : mappings == null ? new OfficeMapping[0] : mappings) {
+            addSpellings(offices, mapping);
+        }
+        return offices;
+    }
+
+    private static void addSpellings(Set<String> offices, OfficeMapping mapping) {
+        for (String office : List.of(mapping.getCode(), mapping.getMapping().getCcd())) {
+            offices.add(office);
+            offices.add(office.toUpperCase(Locale.UK));
+            offices.add(office.toLowerCase(Locale.UK));
+            offices.add("  " + office + " ");
+        }
+    }
+
+    private static Object outcome(Supplier<?> lookup) {
+        try {
+            return lookup.get();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
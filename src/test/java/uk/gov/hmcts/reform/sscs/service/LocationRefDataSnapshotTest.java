@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.reform.sscs.model.CourtVenue;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LocationRefDataSnapshotTest {
+
+    private static final String BRADFORD = "Bradford";
+    private static final String LEEDS = "Leeds";
+    private static final String EPIMS_ID = "1234";
+
+    @Mock
+    private RefDataService refDataService;
+
+    @Mock
+    private VenueService venueService;
+
+    @Mock
+    private AirLookupService airLookupService;
+
+    @Test
+    public void givenAVenueThatHasBeenLookedUp_thenItIsServedFromTheSnapshot() {
+        LocationRefDataSnapshot snapshot = snapshot(true, new String[0]);
+        when(venueService.getEpimsIdForVenue(BRADFORD)).thenReturn(EPIMS_ID);
+        when(refDataService.getCourtVenueRefDataByEpimsId(EPIMS_ID)).thenReturn(CourtVenue.builder().regionId("1").build());
+
+        assertEquals(Optional.of("1"), snapshot.getRegionIdForVenue(BRADFORD));
+        assertEquals(Optional.of("1"), snapshot.getRegionIdForVenue(BRADFORD));
+
+        verify(venueService, times(1)).getEpimsIdForVenue(BRADFORD);
+        verify(refDataService, times(1)).getCourtVenueRefDataByEpimsId(EPIMS_ID);
+    }
+
+    @Test
+    public void givenAnUnknownVenue_thenNoRegionIsReturnedAndRefDataIsNotCalled() {
+        LocationRefDataSnapshot snapshot = snapshot(true, new String[0]);
+
+        assertTrue(snapshot.getRegionIdForVenue(BRADFORD).isEmpty());
+        assertTrue(snapshot.getRegionIdForVenue(BRADFORD).isEmpty());
+
+        verify(venueService, times(1)).getEpimsIdForVenue(BRADFORD);
+        verify(refDataService, times(0)).getCourtVenueRefDataByEpimsId(EPIMS_ID);
+    }
+
+    @Test
+    public void givenPreloadVenues_thenTheyAreLoadedOnRefresh() {
+        LocationRefDataSnapshot snapshot = snapshot(true, new String[] {BRADFORD, " "});
+        when(venueService.getEpimsIdForVenue(BRADFORD)).thenReturn(EPIMS_ID);
+        when(refDataService.getCourtVenueRefDataByEpimsId(EPIMS_ID)).thenReturn(CourtVenue.builder().regionId("1").build());
+
+        snapshot.refresh();
+
+        assertEquals(1, snapshot.size());
+        assertEquals(Optional.of("1"), snapshot.getRegionIdForVenue(BRADFORD));
+        verify(venueService, times(1)).getEpimsIdForVenue(BRADFORD);
+    }
+
+    @Test
+    public void givenARefresh_thenChangedRefDataIsPickedUp() {
+        LocationRefDataSnapshot snapshot = snapshot(true, new String[0]);
+        when(venueService.getEpimsIdForVenue(BRADFORD)).thenReturn(EPIMS_ID);
+        when(refDataService.getCourtVenueRefDataByEpimsId(EPIMS_ID))
+            .thenReturn(CourtVenue.builder().regionId("1").build())
+            .thenReturn(CourtVenue.builder().regionId("2").build());
+
+        assertEquals(Optional.of("1"), snapshot.getRegionIdForVenue(BRADFORD));
+        snapshot.refresh();
+
+        assertEquals(Optional.of("2"), snapshot.getRegionIdForVenue(BRADFORD));
+    }
+
+    @Test
+    public void givenARefreshFails_thenThePreviousMappingIsKept() {
+        LocationRefDataSnapshot snapshot = snapshot(true, new String[0]);
+        when(venueService.getEpimsIdForVenue(BRADFORD)).thenReturn(EPIMS_ID);
+        when(venueService.getEpimsIdForVenue(LEEDS)).thenReturn("5678");
+        when(refDataService.getCourtVenueRefDataByEpimsId(EPIMS_ID))
+            .thenReturn(CourtVenue.builder().regionId("1").build())
+            .thenThrow(new RuntimeException("ref data unavailable"));
+        when(refDataService.getCourtVenueRefDataByEpimsId("5678"))
+            .thenReturn(CourtVenue.builder().regionId("3").build())
+            .thenReturn(CourtVenue.builder().regionId("4").build());
+
+        snapshot.getRegionIdForVenue(BRADFORD);
+        snapshot.getRegionIdForVenue(LEEDS);
+        snapshot.refresh();
+
+        assertEquals(Optional.of("1"), snapshot.getRegionIdForVenue(BRADFORD));
+        assertEquals(Optional.of("4"), snapshot.getRegionIdForVenue(LEEDS));
+    }
+
+    @Test
+    public void givenTheSnapshotIsDisabled_thenEveryLookupGoesToRefData() {
+        LocationRefDataSnapshot snapshot = snapshot(false, new String[0]);
+        when(venueService.getEpimsIdForVenue(BRADFORD)).thenReturn(EPIMS_ID);
+        when(refDataService.getCourtVenueRefDataByEpimsId(EPIMS_ID)).thenReturn(CourtVenue.builder().regionId("1").build());
+
+        snapshot.getRegionIdForVenue(BRADFORD);
+        snapshot.getRegionIdForVenue(BRADFORD);
+        snapshot.refresh();
+
+        verify(refDataService, times(2)).getCourtVenueRefDataByEpimsId(EPIMS_ID);
+    }
+
+    @Test
+    public void givenNoPreloadVenues_thenEveryVenueInTheAirLookupDataIsLoadedOnRefresh() {
+        LocationRefDataSnapshot snapshot = snapshot(true, new String[0]);
+        when(airLookupService.getLookupVenueIdByAirVenueName()).thenReturn(Map.of(BRADFORD, 1, LEEDS, 2));
+        when(venueService.getEpimsIdForVenue(BRADFORD)).thenReturn(EPIMS_ID);
+        when(refDataService.getCourtVenueRefDataByEpimsId(EPIMS_ID)).thenReturn(CourtVenue.builder().regionId("1").build());
+
+        snapshot.refresh();
+
+        assertEquals(2, snapshot.size());
+        assertEquals(Optional.of("1"), snapshot.getRegionIdForVenue(BRADFORD));
+        verify(venueService, times(1)).getEpimsIdForVenue(BRADFORD);
+    }
+
+    @Test
+    public void givenAVenueThatResolvedToNoRegion_thenItIsLookedUpAgainOnceTheNegativeTtlHasPassed() {
+        LocationRefDataSnapshot snapshot = new LocationRefDataSnapshot(refDataService, venueService, airLookupService, true,
+            new String[0], Duration.ZERO);
+        when(venueService.getEpimsIdForVenue(BRADFORD)).thenReturn(EPIMS_ID);
+        when(refDataService.getCourtVenueRefDataByEpimsId(EPIMS_ID))
+            .thenReturn(null)
+            .thenReturn(CourtVenue.builder().regionId("1").build());
+
+        assertTrue(snapshot.getRegionIdForVenue(BRADFORD).isEmpty());
+        assertEquals(Optional.of("1"), snapshot.getRegionIdForVenue(BRADFORD));
+        assertEquals(Optional.of("1"), snapshot.getRegionIdForVenue(BRADFORD));
+
+        verify(refDataService, times(2)).getCourtVenueRefDataByEpimsId(EPIMS_ID);
+    }
+
+    @Test
+    public void givenALookupThatFails_thenNothingIsKeptForTheVenue() {
+        LocationRefDataSnapshot snapshot = snapshot(true, new String[0]);
+        when(venueService.getEpimsIdForVenue(BRADFORD)).thenReturn(EPIMS_ID);
+        when(refDataService.getCourtVenueRefDataByEpimsId(EPIMS_ID))
+            .thenThrow(new RuntimeException("ref data unavailable"))
+            .thenReturn(CourtVenue.builder().regionId("1").build());
+
+        assertThrows(RuntimeException.class, () -> snapshot.getRegionIdForVenue(BRADFORD));
+
+        assertEquals(0, snapshot.size());
+        assertEquals(Optional.of("1"), snapshot.getRegionIdForVenue(BRADFORD));
+    }
+
+    @Test
+    public void givenARefreshFindsNoRegionForAVenueThatHadOne_thenThePreviousMappingIsKept() {
+        LocationRefDataSnapshot snapshot = snapshot(true, new String[0]);
+        when(venueService.getEpimsIdForVenue(BRADFORD)).thenReturn(EPIMS_ID);
+        when(refDataService.getCourtVenueRefDataByEpimsId(EPIMS_ID))
+            .thenReturn(CourtVenue.builder().regionId("1").build())
+            .thenReturn(null);
+
+        snapshot.getRegionIdForVenue(BRADFORD);
+        snapshot.refresh();
+
+        assertEquals(Optional.of("1"), snapshot.getRegionIdForVenue(BRADFORD));
+    }
+
+    private LocationRefDataSnapshot snapshot(boolean enabled, String[] preloadVenues) {
+        return new LocationRefDataSnapshot(refDataService, venueService, airLookupService, enabled, preloadVenues,
+            Duration.ofMinutes(1));
+    }
+}
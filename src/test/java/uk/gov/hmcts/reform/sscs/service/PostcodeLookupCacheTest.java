@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.sscs.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.reform.sscs.ccd.domain.BenefitType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.RegionalProcessingCenter;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PostcodeLookupCacheTest {
+
+    private static final String POSTCODE = "CR2 8YY";
+
+    @Mock
+    private RegionalProcessingCenterService regionalProcessingCenterService;
+
+    @Mock
+    private AirLookupService airLookupService;
+
+    private PostcodeLookupCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new PostcodeLookupCache(regionalProcessingCenterService, airLookupService, true, 100);
+    }
+
+    @Test
+    public void givenTheSamePostcode_thenTheRpcIsOnlyLookedUpOnce() {
+        RegionalProcessingCenter rpc = RegionalProcessingCenter.builder().name("Sutton").build();
+        when(regionalProcessingCenterService.getByPostcode(POSTCODE, false)).thenReturn(rpc);
+
+        assertSame(rpc, cache.getRpcByPostcode(POSTCODE, false));
+        assertSame(rpc, cache.getRpcByPostcode(POSTCODE, false));
+
+        verify(regionalProcessingCenterService, times(1)).getByPostcode(POSTCODE, false);
+    }
+
+    @Test
+    public void givenTheIbcFlagDiffers_thenTheRpcIsLookedUpForEach() {
+        RegionalProcessingCenter rpc = RegionalProcessingCenter.builder().name("Sutton").build();
+        RegionalProcessingCenter ibcRpc = RegionalProcessingCenter.builder().name("Glasgow").build();
+        when(regionalProcessingCenterService.getByPostcode(POSTCODE, false)).thenReturn(rpc);
+        when(regionalProcessingCenterService.getByPostcode(POSTCODE, true)).thenReturn(ibcRpc);
+
+        assertSame(rpc, cache.getRpcByPostcode(POSTCODE, false));
+        assertSame(ibcRpc, cache.getRpcByPostcode(POSTCODE, true));
+    }
+
+    @Test
+    public void givenAPostcodeWithNoRpc_thenTheMissIsRemembered() {
+        assertNull(cache.getRpcByPostcode(POSTCODE, false));
+        assertNull(cache.getRpcByPostcode(POSTCODE, false));
+
+        verify(regionalProcessingCenterService, times(1)).getByPostcode(POSTCODE, false);
+    }
+
+    @Test
+    public void givenTheSamePostcodeAndBenefit_thenTheVenueIsOnlyLookedUpOnce() {
+        BenefitType pip = BenefitType.builder().code("PIP").build();
+        BenefitType esa = BenefitType.builder().code("ESA").build();
+        when(airLookupService.lookupAirVenueNameByPostCode(POSTCODE, pip)).thenReturn("Croydon");
+        when(airLookupService.lookupAirVenueNameByPostCode(POSTCODE, esa)).thenReturn("Sutton");
+
+        assertEquals("Croydon", cache.getAirVenueNameByPostcode(POSTCODE, pip));
+        assertEquals("Croydon", cache.getAirVenueNameByPostcode(POSTCODE, BenefitType.builder().code("PIP").build()));
+        assertEquals("Sutton", cache.getAirVenueNameByPostcode(POSTCODE, esa));
+
+        verify(airLookupService, times(1)).lookupAirVenueNameByPostCode(POSTCODE, pip);
+    }
+
+    @Test
+    public void givenADisabledCache_thenEveryLookupGoesToTheServices() {
+        PostcodeLookupCache disabled = PostcodeLookupCache.disabled(regionalProcessingCenterService, airLookupService);
+
+        disabled.getRpcByPostcode(POSTCODE, false);
+        disabled.getRpcByPostcode(POSTCODE, false);
+
+        verify(regionalProcessingCenterService, times(2)).getByPostcode(POSTCODE, false);
+    }
+}
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.sscs.transformers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Appeal;
+import uk.gov.hmcts.reform.sscs.ccd.domain.BenefitType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.MrnDetails;
+
+public class AppealBuildCacheTest {
+
+    private AppealBuildCache cache;
+    private Map<String, Object> pairs;
+
+    @Before
+    public void setup() {
+        cache = new AppealBuildCache(true, 10, Duration.ofMinutes(1));
+        pairs = new HashMap<>();
+        pairs.put("person1_nino", "JT123456B");
+        pairs.put("is_benefit_type_pip", true);
+    }
+
+    @Test
+    public void givenAStoredAppeal_thenReplayReturnsACopyWithTheSameErrorsAndWarnings() {
+        Appeal appeal = Appeal.builder()
+            .benefitType(BenefitType.builder().code("PIP").build())
+            .mrnDetails(MrnDetails.builder().mrnDate("2048-11-01").build())
+            .build();
+        String key = cache.key(pairs, "SSCS1PE", false, false);
+        cache.store(key, appeal, Set.of("an error"), Set.of("a warning"));
+
+        Set<String> errors = new HashSet<>();
+        Set<String> warnings = new HashSet<>();
+        Optional<Appeal> replayed = cache.replay(cache.key(new HashMap<>(pairs), "SSCS1PE", false, false), errors, warnings);
+
+        assertTrue(replayed.isPresent());
+        assertEquals(appeal, replayed.get());
+        assertNotSame(appeal, replayed.get());
+        assertEquals(Set.of("an error"), errors);
+        assertEquals(Set.of("a warning"), warnings);
+    }
+
+    @Test
+    public void givenDifferentInputs_thenKeysDiffer() {
+        String key = cache.key(pairs, "SSCS1PE", false, false);
+
+        assertNotEquals(key, cache.key(pairs, "SSCS1U", false, false));
+        assertNotEquals(key, cache.key(pairs, "SSCS1PE", true, false));
+        assertNotEquals(key, cache.key(pairs, "SSCS1PE", false, true));
+
+        Map<String, Object> changed = new HashMap<>(pairs);
+        changed.put("person1_nino", "JT123456C");
+        assertNotEquals(key, cache.key(changed, "SSCS1PE", false, false));
+    }
+
+    @Test
+    public void givenAMiss_thenNothingIsReplayed() {
+        Set<String> errors = new HashSet<>();
+        Optional<Appeal> replayed = cache.replay(cache.key(pairs, "SSCS1PE", false, false), errors, new HashSet<>());
+
+        assertFalse(replayed.isPresent());
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void givenADisabledCache_thenNothingIsKeyedOrReplayed() {
+        AppealBuildCache disabled = AppealBuildCache.disabled();
+        String key = disabled.key(pairs, "SSCS1PE", false, false);
+        disabled.store(key, Appeal.builder().build(), Set.of(), Set.of());
+
+        assertNull(key);
+        assertFalse(disabled.replay(key, new HashSet<>(), new HashSet<>()).isPresent());
+    }
+}
@@ -21,9 +21,15 @@ import static uk.gov.hmcts.reform.sscs.constants.SscsConstants.*;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -37,6 +43,7 @@ import org.junit.Test;
 import org.junit.platform.commons.util.StringUtils;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.Assert;
 import uk.gov.hmcts.reform.sscs.bulkscancore.domain.*;
 import uk.gov.hmcts.reform.sscs.ccd.domain.*;
@@ -49,10 +56,17 @@ import uk.gov.hmcts.reform.sscs.helper.SscsDataHelper;
 import uk.gov.hmcts.reform.sscs.idam.IdamService;
 import uk.gov.hmcts.reform.sscs.idam.IdamTokens;
 import uk.gov.hmcts.reform.sscs.json.SscsJsonExtractor;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineHandler;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineMetrics;
+import uk.gov.hmcts.reform.sscs.metrics.StageOutcome;
+import uk.gov.hmcts.reform.sscs.metrics.StageTimer;
 import uk.gov.hmcts.reform.sscs.service.AirLookupService;
 import uk.gov.hmcts.reform.sscs.service.CaseManagementLocationService;
+import uk.gov.hmcts.reform.sscs.service.DuplicateCaseIndexShadow;
 import uk.gov.hmcts.reform.sscs.service.DwpAddressLookupService;
+import uk.gov.hmcts.reform.sscs.service.DwpOfficeTable;
 import uk.gov.hmcts.reform.sscs.service.FuzzyMatcherService;
+import uk.gov.hmcts.reform.sscs.service.PostcodeLookupCache;
 import uk.gov.hmcts.reform.sscs.service.RegionalProcessingCenterService;
 import uk.gov.hmcts.reform.sscs.validators.FormTypeValidator;
 
@@ -90,6 +104,9 @@ public class SscsCaseTransformerTest {
     private SscsCaseTransformer transformer;
     private SscsCaseTransformer transformer2;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PipelineMetrics pipelineMetrics = new PipelineMetrics(meterRegistry);
+
     private final List<OcrDataField> ocrList = new ArrayList<>();
 
     private Map<String, Object> pairs;
@@ -107,14 +124,16 @@ public class SscsCaseTransformerTest {
     public void setup() {
         openMocks(this);
         pairs = new HashMap<>();
-        DwpAddressLookupService dwpAddressLookupService = new DwpAddressLookupService();
+        DwpOfficeTable dwpOfficeTable = new DwpOfficeTable(new DwpAddressLookupService());
 
         formTypeValidator2 = new FormTypeValidator(sscsJsonExtractor);
 
+        PostcodeLookupCache postcodeLookupCache = PostcodeLookupCache.disabled(regionalProcessingCenterService, airLookupService);
+
         SscsDataHelper sscsDataHelper = new SscsDataHelper(
             null,
-            airLookupService,
-            dwpAddressLookupService,
+            postcodeLookupCache,
+            dwpOfficeTable,
             true);
 
         transformer = new SscsCaseTransformer(
@@ -125,9 +144,12 @@ public class SscsCaseTransformerTest {
             new FuzzyMatcherService(),
             appealPostcodeHelper,
             formTypeValidator,
-            dwpAddressLookupService,
+            dwpOfficeTable,
             caseManagementLocationService,
-            regionalProcessingCenterService,
+            postcodeLookupCache,
+            AppealBuildCache.disabled(),
+            DuplicateCaseIndexShadow.disabled(),
+            pipelineMetrics,
             false);
 
         transformer2 = new SscsCaseTransformer(
@@ -138,9 +160,12 @@ public class SscsCaseTransformerTest {
             new FuzzyMatcherService(),
             appealPostcodeHelper,
             formTypeValidator2,
-            dwpAddressLookupService,
+            dwpOfficeTable,
             caseManagementLocationService,
-            regionalProcessingCenterService,
+            postcodeLookupCache,
+            AppealBuildCache.disabled(),
+            DuplicateCaseIndexShadow.disabled(),
+            pipelineMetrics,
             false);
 
         pairs.put("is_hearing_type_oral", IS_HEARING_TYPE_ORAL);
@@ -1588,6 +1613,49 @@ public class SscsCaseTransformerTest {
         }
     }
 
+    @Test
+    public void givenACaseInCcdMissingFromTheDuplicateIndex_thenTheDuplicateIsStillFound() throws IOException {
+        Path export = Files.createTempFile("cases", ".psv");
+        Files.writeString(export, "BB000000B|ESA|2020-01-01\n", StandardCharsets.UTF_8);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DuplicateCaseIndexShadow index = new DuplicateCaseIndexShadow(true, export.toString(), 1000, 0.001, Duration.ofDays(1), registry);
+        index.rebuild();
+        ReflectionTestUtils.setField(transformer, "duplicateCaseIndexShadow", index);
+
+        pairs.put(PERSON1_VALUE + NINO, APPELLANT_NINO);
+        pairs.put(MRN_DATE, MRN_DATE_VALUE);
+        pairs.put(BenefitTypeIndicator.PIP.getIndicatorString(), YES_LITERAL);
+
+        // Created on another instance after the export was taken
+        given(ccdService.findCcdCaseByNinoAndBenefitTypeAndMrnDate(eq(APPELLANT_NINO), eq("PIP"), eq("2048-11-01"), any()))
+            .willReturn(SscsCaseDetails.builder().id(123L).build());
+
+        CaseResponse result = transformer.transformExceptionRecord(exceptionRecord, false);
+
+        assertEquals("Duplicate case already exists - please reject this exception record", result.getErrors().get(0));
+        assertEquals(1.0, registry.get("bulkscan.duplicate.index.shadow.lookups").tag("result", "missed").counter().count(), 0);
+        Files.delete(export);
+    }
+
+    @Test
+    public void givenATransformWithinARequest_thenEachStepIsTimedUnderTheRequestHandlerAndFormType() {
+        StageTimer request = pipelineMetrics.startRequest(PipelineHandler.TRANSFORM, "123456", SSCS1PEU.getId());
+        transformer.transformExceptionRecord(exceptionRecord, false);
+        request.stop(SSCS1PEU.getId(), StageOutcome.SUCCESS);
+
+        for (String stage : List.of("schema-validation", "ocr-extraction", "appeal-build", "venue-lookup", "duplicate-check")) {
+            assertTrue(stage, meterRegistry.get(PipelineMetrics.PIPELINE_TIMER).tag("handler", "transform")
+                .tag("stage", stage).tag("form_type", SSCS1PEU.name()).timer().count() > 0);
+        }
+    }
+
+    @Test
+    public void givenATransformOutsideARequest_thenNoStepIsTimed() {
+        transformer.transformExceptionRecord(exceptionRecord, false);
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
     @Test
     public void givenACaseWithNullOcrData_thenAddErrorToList() {
 
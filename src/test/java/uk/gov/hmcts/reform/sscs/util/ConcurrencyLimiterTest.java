@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public class ConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 2, 10, 0.5, Duration.ofSeconds(1));
+
+    @Test
+    public void givenTheLimitIsReached_thenFurtherRequestsAreRejectedUntilOneCompletes() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(4, limiter.inFlight());
+
+        limiter.release(FAST);
+
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    public void givenFastRequestsUsingTheLimit_thenItGrowsUpToTheMaximum() {
+        for (int i = 0; i < 500; i++) {
+            fill();
+            drain(FAST);
+        }
+
+        assertEquals(10, limiter.limit());
+    }
+
+    @Test
+    public void givenFastRequestsWellUnderTheLimit_thenItDoesNotGrow() {
+        for (int i = 0; i < 500; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+
+        assertEquals(4, limiter.limit());
+    }
+
+    @Test
+    public void givenASlowRequest_thenTheLimitIsCutOnceForTheRequestsAlreadyRunning() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(8, 1, 10, 0.5, Duration.ofSeconds(1));
+        while (limiter.tryAcquire()) {
+            // Take every permit there is
+        }
+
+        for (int i = 0; i < 8; i++) {
+            limiter.release(SLOW);
+        }
+
+        assertEquals(4, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    public void givenRequestsStayingSlow_thenTheLimitDoesNotFallBelowTheMinimum() {
+        for (int i = 0; i < 10; i++) {
+            fill();
+            drain(SLOW);
+        }
+
+        assertEquals(2, limiter.limit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAnInitialLimitAboveTheMaximum_thenItIsRejected() {
+        new ConcurrencyLimiter(20, 2, 10, 0.5, Duration.ofSeconds(1));
+    }
+
+    private void fill() {
+        while (limiter.tryAcquire()) {
+            // Take every permit there is
+        }
+    }
+
+    private void drain(long latencyNanos) {
+        while (limiter.inFlight() > 0) {
+            limiter.release(latencyNanos);
+        }
+    }
+}
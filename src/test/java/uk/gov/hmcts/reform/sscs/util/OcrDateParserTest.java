@@ -0,0 +1,136 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import uk.gov.hmcts.reform.sscs.ccd.domain.DateRange;
+
+public class OcrDateParserTest {
+
+    private static final String ERROR = "invalid date range";
+
+    private final List<DateRange> ranges = new ArrayList<>();
+    private final Set<String> errors = new HashSet<>();
+
+    @Test
+    public void givenEveryDayAndShape_thenMatchesTheFormatters() {
+        for (int year = 0; year <= 2100; year += year < 1890 ? 97 : 1) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    assertSameAsFormatters(day + "/" + month + "/" + String.format("%04d", year));
+                    assertSameAsFormatters(String.format("%02d/%02d/%04d", day, month, year));
+                    assertSameAsFormatters(String.format("%02d%02d%04d", day, month, year));
+                    assertSameAsFormatters(String.format("%04d-%02d-%02d", year, month, day));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void givenUnusualDates_thenMatchesTheFormatters() {
+        for (String date : Arrays.asList("001/01/2020", "1/1/20201", "1/1/+2020", "1/1/-2020", "+1012020", "010120201",
+            "1/1/202", "1/1/2020 ", " 1/1/2020", "29/2/2000", "29/2/1900", "0000-02-29", "2020-1-1", "2020-02-30",
+            "12/12/12345", "1-1-2020", "1//2020", "aa/bb/cccc")) {
+            assertSameAsFormatters(date);
+        }
+    }
+
+    @Test
+    public void givenRandomText_thenMatchesTheFormatters() {
+        Random random = new Random(42);
+        String alphabet = "0123456789/- +";
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int length = 1 + random.nextInt(12); length > 0; length--) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertSameAsFormatters(text.toString());
+        }
+    }
+
+    @Test
+    public void givenDatesAndRanges_thenParsesEach() {
+        assertTrue(OcrDateParser.parseDateRanges("01/01/2020, 07/01/2020,12/01/2020 - 15/01/2020", ranges, errors, ERROR));
+
+        assertEquals(List.of(range("2020-01-01", null), range("2020-01-07", null), range("2020-01-12", "2020-01-15")), ranges);
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void givenAnInvalidDate_thenAddsTheErrorAndKeepsTheRange() {
+        assertTrue(OcrDateParser.parseDateRanges("01/01/2020 - 32/01/2020, 07/01/2020", ranges, errors, ERROR));
+
+        assertEquals(List.of(range("2020-01-01", null), range("2020-01-07", null)), ranges);
+        assertEquals(Set.of(ERROR), errors);
+    }
+
+    @Test
+    public void givenARangeOfThreeDates_thenStopsWithTheError() {
+        assertFalse(OcrDateParser.parseDateRanges("01/01/2020, 02/01/2020 - 03/01/2020 - 04/01/2020, 05/01/2020",
+            ranges, errors, ERROR));
+
+        assertEquals(List.of(range("2020-01-01", null)), ranges);
+        assertEquals(Set.of(ERROR), errors);
+    }
+
+    @Test
+    public void givenEmptyItemsAndPieces_thenSplitsAsTheRegularExpressionsDid() {
+        assertTrue(OcrDateParser.parseDateRanges(", 01/01/2020 -, 02/01/2020 - , ,", ranges, errors, ERROR));
+
+        assertEquals(List.of(range(null, null), range("2020-01-01", null), range("2020-01-02", null)), ranges);
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void givenOnlyADash_thenStopsWithTheError() {
+        assertFalse(OcrDateParser.parseDateRanges("01/01/2020, -", ranges, errors, ERROR));
+
+        assertEquals(List.of(range("2020-01-01", null)), ranges);
+        assertEquals(Set.of(ERROR), errors);
+    }
+
+    @Test
+    public void givenAnInvalidCcdDate_thenReturnsNull() {
+        assertNull(OcrDateParser.parseCcdDate("2020-13-01"));
+        assertNull(OcrDateParser.parseCcdDate("01/01/2020"));
+    }
+
+    private static void assertSameAsFormatters(String text) {
+        assertEquals(text, ocrDateByFormatter(text), OcrDateParser.toCcdDate(text));
+        assertEquals(text, ccdDateByFormatter(text), OcrDateParser.parseCcdDate(text));
+    }
+
+    private static String ocrDateByFormatter(String text) {
+        try {
+            return LocalDate.parse(text, DateTimeFormatter.ofPattern("[d/M/uuuu][ddMMuuuu]")
+                .withResolverStyle(ResolverStyle.STRICT)).format(DateTimeFormatter.ofPattern("uuuu-MM-dd"));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static LocalDate ccdDateByFormatter(String text) {
+        try {
+            return LocalDate.parse(text, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static DateRange range(String start, String end) {
+        return DateRange.builder().start(start).end(end).build();
+    }
+}
@@ -0,0 +1,109 @@
+package uk.gov.hmcts.reform.sscs.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class SingleFlightTest {
+
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenAConcurrentCallWithTheSameKey_thenItWaitsForTheRunningComputation() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch joined = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        Object result = new Object();
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("123", () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<Object> follower = executor.submit(() -> singleFlight.execute("123", () -> {
+            runs.incrementAndGet();
+            return new Object();
+        }, joined::countDown));
+        assertTrue(joined.await(5, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertSame(result, leader.get(5, TimeUnit.SECONDS));
+        assertSame(result, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    public void givenTheRunningComputationFails_thenTheWaitingCallGetsTheSameException() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch joined = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("failed");
+
+        executor.submit(() -> singleFlight.execute("123", () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<Object> follower = executor.submit(() -> {
+            try {
+                singleFlight.execute("123", Object::new, joined::countDown);
+                return null;
+            } catch (IllegalStateException e) {
+                return e;
+            }
+        });
+        assertTrue(joined.await(5, TimeUnit.SECONDS));
+        release.countDown();
+
+        assertSame(failure, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    public void givenSequentialCalls_thenEachOneRuns() {
+        AtomicInteger runs = new AtomicInteger();
+
+        singleFlight.execute("123", runs::incrementAndGet);
+        singleFlight.execute("123", runs::incrementAndGet);
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void givenDifferentKeys_thenComputationsDoNotWaitForEachOther() {
+        Object inner = singleFlight.execute("123", () -> singleFlight.execute("456", () -> "456", () -> fail("should not join")));
+
+        assertEquals("456", inner);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
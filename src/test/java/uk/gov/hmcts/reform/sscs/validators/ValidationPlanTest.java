@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.sscs.validators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static uk.gov.hmcts.reform.sscs.ccd.domain.EventType.VALID_APPEAL;
+import static uk.gov.hmcts.reform.sscs.domain.CallbackType.EXCEPTION_CALLBACK;
+import static uk.gov.hmcts.reform.sscs.domain.CallbackType.VALIDATION_CALLBACK;
+import static uk.gov.hmcts.reform.sscs.validators.ValidationRule.rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Appeal;
+import uk.gov.hmcts.reform.sscs.ccd.domain.EventType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+import uk.gov.hmcts.reform.sscs.domain.CallbackType;
+
+public class ValidationPlanTest {
+
+    private final List<String> ran = new ArrayList<>();
+
+    private final ValidationPlan plan = ValidationPlan.compile(List.of(
+        rule("everything", request -> ran.add("everything")),
+        rule("sscs2 only", request -> ran.add("sscs2 only")).forForms(FormType.SSCS2),
+        rule("not sscs2 or sscs8", request -> ran.add("not sscs2 or sscs8"))
+            .forFormsOtherThan(FormType.SSCS2, FormType.SSCS8),
+        rule("validation only", request -> ran.add("validation only")).forCallbacks(VALIDATION_CALLBACK),
+        rule("not valid appeal", request -> ran.add("not valid appeal")).forEventsOtherThan(VALID_APPEAL)
+    ));
+
+    @Test
+    public void givenAFormType_thenOnlyItsRulesRunInOrder() {
+        run(EXCEPTION_CALLBACK, FormType.SSCS2, null);
+
+        assertEquals(List.of("everything", "sscs2 only", "not valid appeal"), ran);
+    }
+
+    @Test
+    public void givenAnotherFormType_thenRulesForOtherFormsRun() {
+        run(VALIDATION_CALLBACK, FormType.SSCS1PE, null);
+
+        assertEquals(List.of("everything", "not sscs2 or sscs8", "validation only", "not valid appeal"), ran);
+    }
+
+    @Test
+    public void givenNoFormType_thenRulesForSomeFormsDoNotRun() {
+        run(EXCEPTION_CALLBACK, null, null);
+
+        assertEquals(List.of("everything", "not sscs2 or sscs8", "not valid appeal"), ran);
+    }
+
+    @Test
+    public void givenAnExcludedEvent_thenItsRuleDoesNotRun() {
+        run(VALIDATION_CALLBACK, FormType.SSCS8, VALID_APPEAL);
+
+        assertEquals(List.of("everything", "validation only"), ran);
+    }
+
+    @Test
+    public void givenACallbackAndFormType_thenThePlanIsCompiledOnce() {
+        assertSame(plan.rules(EXCEPTION_CALLBACK, FormType.SSCS5), plan.rules(EXCEPTION_CALLBACK, FormType.SSCS5));
+        assertEquals("[everything, not sscs2 or sscs8, not valid appeal]", plan.rules(EXCEPTION_CALLBACK, FormType.SSCS5).toString());
+    }
+
+    private void run(CallbackType callbackType, FormType formType, EventType eventType) {
+        plan.run(callbackType, new ValidationRequest(Map.of(), Map.of(), formType, Appeal.builder().build(), "person1",
+            false, false, false, eventType));
+    }
+}
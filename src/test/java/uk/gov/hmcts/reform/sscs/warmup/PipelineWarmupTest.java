@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.sscs.warmup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.CaseResponse;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ExceptionRecord;
+import uk.gov.hmcts.reform.sscs.bulkscancore.handlers.CcdCallbackHandler;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+import uk.gov.hmcts.reform.sscs.exceptions.InvalidExceptionRecordException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PipelineWarmupTest {
+
+    @Mock
+    private CcdCallbackHandler handler;
+
+    @Test
+    public void givenWarmupIsEnabled_thenEveryFormTypeRunsThroughThePipelineWithStandIns() {
+        List<Boolean> activeDuringValidation = new ArrayList<>();
+        when(handler.handleValidation(any(ExceptionRecord.class))).thenAnswer(invocation -> {
+            activeDuringValidation.add(WarmupContext.isActive());
+            return CaseResponse.builder().build();
+        });
+        when(handler.handle(any(ExceptionRecord.class))).thenThrow(new InvalidExceptionRecordException(List.of("rejected")));
+
+        new PipelineWarmup(handler, new ObjectMapper(), true, 2).run(null);
+
+        int formTypes = FormType.values().length - 1;
+        verify(handler, times(2 * formTypes)).handleValidation(any(ExceptionRecord.class));
+        verify(handler, times(2 * formTypes)).handle(any(ExceptionRecord.class));
+        assertFalse(activeDuringValidation.contains(Boolean.FALSE));
+        assertFalse(WarmupContext.isActive());
+    }
+
+    @Test
+    public void givenWarmupIsDisabled_thenNothingRuns() {
+        new PipelineWarmup(handler, new ObjectMapper(), false, 2).run(null);
+
+        verifyNoInteractions(handler);
+    }
+
+    @Test
+    public void givenDifferentIterations_thenTheSyntheticRecordsDiffer() {
+        ExceptionRecord first = PipelineWarmup.exceptionRecord(FormType.SSCS1PE, 0);
+        ExceptionRecord second = PipelineWarmup.exceptionRecord(FormType.SSCS1PE, 1);
+
+        assertEquals(FormType.SSCS1PE.getId(), first.getFormType());
+        assertTrue(!first.getOcrDataFields().equals(second.getOcrDataFields()));
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.sscs.warmup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.ExceptionRecord;
+import uk.gov.hmcts.reform.sscs.ccd.domain.Appeal;
+import uk.gov.hmcts.reform.sscs.ccd.domain.BenefitType;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+import uk.gov.hmcts.reform.sscs.service.AirLookupService;
+import uk.gov.hmcts.reform.sscs.service.PostcodeLookupCache;
+import uk.gov.hmcts.reform.sscs.service.RegionalProcessingCenterService;
+import uk.gov.hmcts.reform.sscs.transformers.AppealBuildCache;
+import uk.gov.hmcts.reform.sscs.validators.Revalidation;
+import uk.gov.hmcts.reform.sscs.validators.RevalidationCache;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WarmupCachingTest {
+
+    private static final String POSTCODE = "CR2 8YY";
+
+    @Mock
+    private RegionalProcessingCenterService regionalProcessingCenterService;
+
+    @Mock
+    private AirLookupService airLookupService;
+
+    @Test
+    public void givenWarmup_thenPostcodeLookupsAreNotKept() {
+        PostcodeLookupCache cache = new PostcodeLookupCache(regionalProcessingCenterService, airLookupService, true, 100);
+
+        WarmupContext.call(() -> cache.getRpcByPostcode(POSTCODE, false));
+        cache.getRpcByPostcode(POSTCODE, false);
+
+        verify(regionalProcessingCenterService, times(2)).getByPostcode(POSTCODE, false);
+    }
+
+    @Test
+    public void givenWarmup_thenBuiltAppealsAreNotKept() {
+        AppealBuildCache cache = new AppealBuildCache(true, 10, Duration.ofMinutes(1));
+        Map<String, Object> pairs = Map.of("person1_nino", "JT123456B");
+        String key = cache.key(pairs, FormType.SSCS1PE.getId(), false, false);
+
+        WarmupContext.call(() -> {
+            cache.store(key, Appeal.builder().benefitType(BenefitType.builder().code("PIP").build()).build(), Set.of(), Set.of());
+            return null;
+        });
+
+        assertFalse(cache.replay(key, new HashSet<>(), new HashSet<>()).isPresent());
+    }
+
+    @Test
+    public void givenWarmup_thenValidationStepsAreNotKept() {
+        RevalidationCache cache = new RevalidationCache(true, 10, 10, Duration.ofMinutes(1));
+        ExceptionRecord exceptionRecord = PipelineWarmup.exceptionRecord(FormType.SSCS1PE, 0);
+        Map<String, Object> caseData = new HashMap<>(Map.of("formType", FormType.SSCS1PE.getId()));
+
+        WarmupContext.call(() -> {
+            Revalidation warmup = cache.start(exceptionRecord, caseData);
+            warmup.reuseOr("step", Set.of(), () -> "stand-in");
+            cache.finish(warmup);
+            return null;
+        });
+        Revalidation revalidation = cache.start(exceptionRecord, caseData);
+        revalidation.reuseOr("step", Set.of(), () -> "real");
+
+        assertEquals(0, revalidation.reused());
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.sscs.warmup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import uk.gov.hmcts.reform.sscs.bulkscancore.domain.CaseResponse;
+import uk.gov.hmcts.reform.sscs.ccd.domain.FormType;
+import uk.gov.hmcts.reform.sscs.logging.LogMarkers;
+import uk.gov.hmcts.reform.sscs.logging.WarmupTurboFilter;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineContext;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineHandler;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineMetrics;
+import uk.gov.hmcts.reform.sscs.metrics.PipelineStage;
+import uk.gov.hmcts.reform.sscs.metrics.StageOutcome;
+import uk.gov.hmcts.reform.sscs.metrics.StageTimer;
+
+public class WarmupRecordingTest {
+
+    private static final String PIPELINE_LOGGER = "uk.gov.hmcts.reform.sscs.bulkscancore.handlers.CcdCallbackHandler";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PipelineMetrics pipelineMetrics = new PipelineMetrics(registry);
+
+    @Test
+    public void givenWarmup_thenThePipelineRecordsNoMetrics() {
+        WarmupContext.call(() -> {
+            StageTimer request = pipelineMetrics.startRequest(PipelineHandler.TRANSFORM, "warmup-SSCS1PE-0", FormType.SSCS1PE);
+            pipelineMetrics.time(PipelineHandler.TRANSFORM, PipelineStage.VALIDATE, FormType.SSCS1PE.getId(),
+                () -> CaseResponse.builder().build());
+            pipelineMetrics.timeInRequest(PipelineStage.APPEAL_BUILD, () -> "appeal");
+            pipelineMetrics.coalesced(PipelineHandler.TRANSFORM);
+            request.stop(FormType.SSCS1PE, StageOutcome.SUCCESS);
+            return null;
+        });
+
+        assertTrue(registry.getMeters().isEmpty());
+        assertNull(PipelineContext.current().getExceptionRecordId());
+
+        pipelineMetrics.startRequest(PipelineHandler.TRANSFORM, "1234", FormType.SSCS1PE).stop(FormType.SSCS1PE, StageOutcome.SUCCESS);
+
+        assertEquals(1, registry.get(PipelineMetrics.PIPELINE_TIMER).tag("stage", "total").timer().count());
+    }
+
+    @Test
+    public void givenWarmup_thenOnlyWarningsAndTheWarmupsOwnEventsAreLogged() {
+        LoggerContext context = new LoggerContext();
+        WarmupTurboFilter filter = new WarmupTurboFilter();
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        root.addAppender(appender);
+        Logger pipeline = context.getLogger(PIPELINE_LOGGER);
+        Logger warmup = context.getLogger(PipelineWarmup.class);
+
+        WarmupContext.call(() -> {
+            pipeline.info("synthetic");
+            pipeline.info(LogMarkers.BUSINESS_EVENT, "synthetic business event");
+            pipeline.warn("warning");
+            warmup.debug("warmup failure");
+            return null;
+        });
+        pipeline.info("real");
+
+        assertEquals(3, appender.list.size());
+        assertEquals("warning", appender.list.get(0).getFormattedMessage());
+        assertEquals("warmup failure", appender.list.get(1).getFormattedMessage());
+        assertEquals("real", appender.list.get(2).getFormattedMessage());
+    }
+}